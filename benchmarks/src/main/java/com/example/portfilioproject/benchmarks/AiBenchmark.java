@@ -0,0 +1,110 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.ai.CreatorPlayer;
+import com.example.portfilioproject.ai.MonteCarloPlayer;
+import com.example.portfilioproject.ai.OpeningBook;
+import com.example.portfilioproject.ai.PerfectSolver;
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.engine.GridBoard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one computer move for each strategy on 3x3 mid-game positions, plus a fixed-budget
+ * Monte Carlo search on a 10x10 board.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AiBenchmark {
+
+    private Positions positions;
+    private BitBoard board;
+    private OpeningBook book;
+    private CreatorPlayer creator;
+    private SplittableRandom random;
+    private MonteCarloPlayer monteCarlo;
+    private GridBoard largeBoard;
+
+    @Setup
+    public void setup() throws IOException {
+        positions = new Positions();
+        board = new BitBoard();
+        book = OpeningBook.load();
+        creator = new CreatorPlayer();
+        random = new SplittableRandom(42);
+        monteCarlo = new MonteCarloPlayer(0, 2_000, 1);
+
+        // An early 10x10 four-in-a-row position
+        largeBoard = new GridBoard(10, 4);
+        largeBoard.play(largeBoard.cell(4, 4), BitBoard.X);
+        largeBoard.play(largeBoard.cell(5, 5), BitBoard.O);
+        largeBoard.play(largeBoard.cell(4, 5), BitBoard.X);
+    }
+
+    @TearDown
+    public void tearDown() {
+        monteCarlo.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Positions.COUNT)
+    public void legacyCreatorAIMove(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            blackhole.consume(LegacyBoard.getCreatorAIMove(positions.legacyBoards[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Positions.COUNT)
+    public void creatorPlayerMove(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            board.load(positions.xMasks[i], positions.oMasks[i]);
+            blackhole.consume(creator.chooseMove(board, random));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Positions.COUNT)
+    public void perfectSolverCached(Blackhole blackhole) {
+        PerfectSolver solver = PerfectSolver.shared();
+        for (int i = 0; i < Positions.COUNT; i++) {
+            board.load(positions.xMasks[i], positions.oMasks[i]);
+            blackhole.consume(solver.bestMove(board));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public int perfectSolverColdStart() {
+        PerfectSolver solver = new PerfectSolver();
+        return solver.bestMove(new BitBoard());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Positions.COUNT)
+    public void openingBookLookup(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            board.load(positions.xMasks[i], positions.oMasks[i]);
+            blackhole.consume(book.bestMove(board));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int monteCarlo10x10(Blackhole blackhole) {
+        int move = monteCarlo.chooseMove(largeBoard);
+        blackhole.consume(monteCarlo.lastStats().playoutsPerSecond());
+        return move;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.FileAssets;
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup asset loading: the original one-by-one load of every image against the parallel
+ * title screen load, which is all the game waits for before showing the first frame.
+ *
+ * Each measurement decodes the images from scratch. This starts the JavaFX toolkit, so it needs
+ * a display (or a headless glass platform such as Monocle).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+@State(Scope.Benchmark)
+public class AssetLoadingBenchmark {
+
+    @Setup
+    public void setup() throws InterruptedException {
+        // Images can only be decoded once the toolkit is running
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            started.countDown(); // Already started by an earlier trial
+        }
+        started.await();
+    }
+
+    @Benchmark
+    public void sequentialAllAssets() {
+        FileAssets.loadFiles();
+    }
+
+    @Benchmark
+    public void parallelTitleAssets() {
+        FileAssets.loadTitleAssets();
+    }
+
+    @Benchmark
+    public void parallelAllAssets() {
+        FileAssets.loadTitleAssets();
+        FileAssets.loadRemainingAssets().join();
+    }
+}
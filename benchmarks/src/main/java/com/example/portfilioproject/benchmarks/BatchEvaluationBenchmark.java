@@ -0,0 +1,82 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.engine.BatchEvaluator;
+import com.example.portfilioproject.engine.BitBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status of many positions at once (X wins, O wins, draw or still going): the original checkWin and
+ * isBoardFull on int[][] boards, the bitboard mask test one position at a time, and the batch
+ * evaluator's branch-free loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(BatchEvaluationBenchmark.COUNT)
+public class BatchEvaluationBenchmark {
+
+    // Number of positions, enough for the loop to run well past the JIT's unrolled start
+    static final int COUNT = 1 << 16;
+
+    // Seed for the position set, so runs can be compared between releases
+    private static final long SEED = 20250611L;
+
+    private final int[] packed = new int[COUNT];
+    private final int[][][] legacyBoards = new int[COUNT][][];
+    private final int[] statuses = new int[COUNT];
+
+    @Setup
+    public void setup() {
+        // Random games stopped after 0 to 9 moves, so finished positions are included
+        SplittableRandom random = new SplittableRandom(SEED);
+        BitBoard board = new BitBoard();
+        for (int i = 0; i < COUNT; i++) {
+            board.reset();
+            int moves = random.nextInt(BitBoard.CELLS + 1);
+            for (int move = 0; move < moves && !board.isGameOver(); move++) {
+                int cell;
+                do {
+                    cell = random.nextInt(BitBoard.CELLS);
+                } while (!board.isEmpty(cell));
+                board.play(cell, board.sideToMove());
+            }
+            packed[i] = BatchEvaluator.pack(board);
+            legacyBoards[i] = Positions.toLegacy(board);
+        }
+    }
+
+    @Benchmark
+    public int[] legacyCheckWin() {
+        for (int i = 0; i < COUNT; i++) {
+            int[][] legacy = legacyBoards[i];
+            if (LegacyBoard.checkWin(0, 0, 'X', legacy)) {
+                statuses[i] = BatchEvaluator.X_WINS;
+            } else if (LegacyBoard.checkWin(0, 0, 'O', legacy)) {
+                statuses[i] = BatchEvaluator.O_WINS;
+            } else {
+                statuses[i] = LegacyBoard.isBoardFull(legacy) ? BatchEvaluator.DRAW : BatchEvaluator.ONGOING;
+            }
+        }
+        return statuses;
+    }
+
+    @Benchmark
+    public int[] scalarStatus() {
+        for (int i = 0; i < COUNT; i++) {
+            statuses[i] = BatchEvaluator.status(packed[i]);
+        }
+        return statuses;
+    }
+
+    @Benchmark
+    public int[] batchEvaluate() {
+        BatchEvaluator.evaluate(packed, COUNT, statuses);
+        return statuses;
+    }
+}
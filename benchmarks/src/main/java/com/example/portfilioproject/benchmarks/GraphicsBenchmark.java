@@ -0,0 +1,96 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.FileAssets;
+import com.example.portfilioproject.ImageButton;
+import javafx.application.Platform;
+import javafx.scene.control.Button;
+import javafx.scene.image.ImageView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hover and grid preview graphics: the original new-ImageView-per-event pattern against the
+ * reused ImageButton view and the per-cell mark view. Run with "-prof gc" to compare the
+ * allocation rate (gc.alloc.rate.norm is the bytes allocated per hover).
+ *
+ * This starts the JavaFX toolkit, so it needs a display (or a headless glass platform such as Monocle).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GraphicsBenchmark {
+
+    private Button legacyButton;
+    private HoverButton imageButton;
+    private Button legacyCell;
+    private ImageView cellMark;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        // Images can only be decoded once the toolkit is running
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            started.countDown(); // Already started by an earlier trial
+        }
+        started.await();
+        FileAssets.loadFiles();
+
+        legacyButton = new Button();
+        legacyButton.setGraphic(FileAssets.CLOSE.createView());
+        imageButton = new HoverButton();
+        legacyCell = new Button();
+        cellMark = new ImageView();
+        new Button().setGraphic(cellMark);
+    }
+
+    @Benchmark
+    public Object legacyButtonHover() {
+        // Mouse enters and leaves the button
+        legacyButton.setGraphic(FileAssets.CLOSE_HOVER.createView());
+        legacyButton.setGraphic(FileAssets.CLOSE.createView());
+        return legacyButton.getGraphic();
+    }
+
+    @Benchmark
+    public Object imageButtonHover() {
+        imageButton.hover(true);
+        imageButton.hover(false);
+        return imageButton.getGraphic();
+    }
+
+    @Benchmark
+    public Object legacyGridPreview() {
+        // Mouse passes over an empty cell
+        legacyCell.setGraphic(FileAssets.X.createView());
+        legacyCell.setGraphic(null);
+        return legacyCell;
+    }
+
+    @Benchmark
+    public Object reusedGridPreview() {
+        FileAssets.X.applyTo(cellMark);
+        cellMark.setImage(null);
+        return cellMark;
+    }
+
+    /**
+     * Lets the benchmark move the mouse over the button without a window.
+     */
+    private static final class HoverButton extends ImageButton {
+
+        HoverButton() {
+            super(FileAssets.CLOSE, FileAssets.CLOSE_HOVER);
+        }
+
+        void hover(boolean hovered) {
+            setHover(hovered);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.portfilioproject.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The original int[][] game logic from TicTacToeApp, kept here unchanged as the baseline the
+ * engine and AI benchmarks are compared against.
+ *
+ * Cells hold -1 for empty, 0 for 'X' and 1 for 'O'.
+ */
+final class LegacyBoard {
+
+    private LegacyBoard() {
+    }
+
+    static int[][] resetBoard() {
+        return new int[][]{
+                {-1, -1, -1},
+                {-1, -1, -1},
+                {-1, -1, -1}
+        };
+    }
+
+    static boolean checkWin(int row, int col, char currentPlayer, int[][] board) {
+        int player = (currentPlayer == 'X' ? 0 : 1);
+        return (board[0][0] == player && board[0][1] == player && board[0][2] == player) ||
+                (board[1][0] == player && board[1][1] == player && board[1][2] == player) ||
+                (board[2][0] == player && board[2][1] == player && board[2][2] == player) ||
+                (board[0][0] == player && board[1][1] == player && board[2][2] == player) ||
+                (board[0][2] == player && board[1][1] == player && board[2][0] == player) ||
+                (board[0][0] == player && board[1][0] == player && board[2][0] == player) ||
+                (board[0][1] == player && board[1][1] == player && board[2][1] == player) ||
+                (board[0][2] == player && board[1][2] == player && board[2][2] == player);
+    }
+
+    static boolean isBoardFull(int[][] board) {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                if (board[i][j] == -1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static int[] getRandomMove(int[][] board) {
+        List<int[]> available = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                if (board[row][col] == -1) {
+                    available.add(new int[]{row, col});
+                }
+            }
+        }
+        if (available.isEmpty()) return null;
+        int randomIndex = (int) (Math.random() * available.size());
+        return available.get(randomIndex);
+    }
+
+    static int[] getCreatorAIMove(int[][] board) {
+        if (Math.random() < 0.10) {
+            return getRandomMove(board);
+        }
+        if (Math.random() < 0.85) {
+            int[] winMove = findBestMove(board, 1);
+            if (winMove != null) return winMove;
+        }
+        if (Math.random() < 0.80) {
+            int[] blockMove = findBestMove(board, 0);
+            if (blockMove != null) return blockMove;
+        }
+        if (Math.random() < 0.7) {
+            if (board[1][1] == -1) return new int[]{1, 1};
+        }
+        int[][] corners = {{0, 0}, {0, 2}, {2, 0}, {2, 2}};
+        for (int[] position : corners) {
+            if (board[position[0]][position[1]] == -1) return position;
+        }
+        int[][] sides = {{0, 1}, {1, 0}, {1, 2}, {2, 1}};
+        for (int[] position : sides) {
+            if (board[position[0]][position[1]] == -1) return position;
+        }
+        return null;
+    }
+
+    static int[] findBestMove(int[][] board, int player) {
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                if (board[row][col] == -1) {
+                    board[row][col] = player;
+                    if (checkWin(row, col, player == 0 ? 'X' : 'O', board)) {
+                        board[row][col] = -1;
+                        return new int[]{row, col};
+                    }
+                    board[row][col] = -1;
+                }
+            }
+        }
+        return null;
+    }
+}
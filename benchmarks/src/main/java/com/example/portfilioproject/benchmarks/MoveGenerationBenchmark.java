@@ -0,0 +1,86 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.engine.BitBoard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move generation: the original getRandomMove (which builds an ArrayList of int[] on every call)
+ * and findBestMove, against the same work done directly on bitboard masks and with the board's
+ * threat index.
+ * Run with "-prof gc" to see the allocation rate as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Positions.COUNT)
+public class MoveGenerationBenchmark {
+
+    private Positions positions;
+    private BitBoard[] boards;
+
+    @Setup
+    public void setup() {
+        positions = new Positions();
+        boards = new BitBoard[Positions.COUNT];
+        for (int i = 0; i < Positions.COUNT; i++) {
+            boards[i] = new BitBoard(positions.xMasks[i], positions.oMasks[i]);
+        }
+    }
+
+    @Benchmark
+    public void legacyGetRandomMove(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            blackhole.consume(LegacyBoard.getRandomMove(positions.legacyBoards[i]));
+        }
+    }
+
+    @Benchmark
+    public void bitBoardRandomMove(Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < Positions.COUNT; i++) {
+            // Pick the n-th free bit of the empty mask
+            int empty = ~(positions.xMasks[i] | positions.oMasks[i]) & BitBoard.FULL_MASK;
+            for (int skip = random.nextInt(Integer.bitCount(empty)); skip > 0; skip--) {
+                empty &= empty - 1;
+            }
+            blackhole.consume(Integer.numberOfTrailingZeros(empty));
+        }
+    }
+
+    @Benchmark
+    public void legacyFindBestMove(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            blackhole.consume(LegacyBoard.findBestMove(positions.legacyBoards[i], 1));
+        }
+    }
+
+    @Benchmark
+    public void bitBoardFindWinningMove(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            int own = positions.oMasks[i];
+            int empty = ~(positions.xMasks[i] | own) & BitBoard.FULL_MASK;
+            int found = -1;
+            while (empty != 0 && found < 0) {
+                int cell = Integer.numberOfTrailingZeros(empty);
+                if (BitBoard.isWin(own | (1 << cell))) found = cell;
+                empty &= empty - 1;
+            }
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void threatIndexWinningMove(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            int cells = boards[i].winningCells(BitBoard.O);
+            blackhole.consume(cells == 0 ? -1 : Integer.numberOfTrailingZeros(cells));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.ai.CreatorPlayer;
+import com.example.portfilioproject.ai.RandomPlayer;
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.engine.GridBoard;
+import com.example.portfilioproject.sim.Simulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complete games per second, from an empty board to a win or a full board.
+ * Run with "-prof gc" to check that the player-vs-player game allocates nothing per move.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayoutBenchmark {
+
+    private final BitBoard bitBoard = new BitBoard();
+    private final GridBoard gomoku = new GridBoard(15, 5);
+    private final int[] empties = new int[15 * 15];
+    private final CreatorPlayer creator = new CreatorPlayer();
+    private final RandomPlayer randomPlayer = new RandomPlayer();
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Benchmark
+    public int creatorVsRandomGame() {
+        return Simulation.playGame(bitBoard, creator, randomPlayer, random);
+    }
+
+    @Benchmark
+    public int legacyRandomGame() {
+        int[][] board = LegacyBoard.resetBoard();
+        char player = 'X';
+        while (true) {
+            int[] move = LegacyBoard.getRandomMove(board);
+            if (move == null) return -1;
+            board[move[0]][move[1]] = player == 'X' ? 0 : 1;
+            if (LegacyBoard.checkWin(move[0], move[1], player, board)) return player;
+            player = player == 'X' ? 'O' : 'X';
+        }
+    }
+
+    @Benchmark
+    public int bitBoardRandomGame() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        bitBoard.reset();
+        int player = BitBoard.X;
+        while (!bitBoard.isFull()) {
+            int empty = bitBoard.emptyMask();
+            for (int skip = random.nextInt(Integer.bitCount(empty)); skip > 0; skip--) {
+                empty &= empty - 1;
+            }
+            bitBoard.play(Integer.numberOfTrailingZeros(empty), player);
+            if (bitBoard.hasWon(player)) return player;
+            player = BitBoard.opponent(player);
+        }
+        return BitBoard.EMPTY;
+    }
+
+    @Benchmark
+    public int gomokuRandomGame() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        gomoku.reset();
+        int count = gomoku.cellCount();
+        for (int cell = 0; cell < count; cell++) {
+            empties[cell] = cell;
+        }
+        int player = BitBoard.X;
+        while (count > 0) {
+            int pick = random.nextInt(count);
+            int cell = empties[pick];
+            empties[pick] = empties[--count];
+            if (gomoku.play(cell, player)) return player;
+            player = BitBoard.opponent(player);
+        }
+        return BitBoard.EMPTY;
+    }
+}
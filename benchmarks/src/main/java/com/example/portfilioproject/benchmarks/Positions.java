@@ -0,0 +1,61 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.util.SplittableRandom;
+
+/**
+ * A fixed set of random, unfinished mid-game positions shared by the benchmarks, so every
+ * implementation is measured on exactly the same boards.
+ */
+final class Positions {
+
+    // Number of positions in the set, each benchmark invocation goes through all of them
+    static final int COUNT = 1024;
+
+    // Seed for the position set, so runs can be compared between releases
+    private static final long SEED = 20250510L;
+
+    final int[] xMasks = new int[COUNT];
+    final int[] oMasks = new int[COUNT];
+    final int[] lastMoves = new int[COUNT];
+    final int[][][] legacyBoards = new int[COUNT][][];
+
+    Positions() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        BitBoard board = new BitBoard();
+        int filled = 0;
+        while (filled < COUNT) {
+            // Play 1 to 7 random moves, keeping only positions that are still in progress
+            board.reset();
+            int moves = 1 + random.nextInt(7);
+            int last = -1;
+            for (int i = 0; i < moves && !board.isGameOver(); i++) {
+                int cell;
+                do {
+                    cell = random.nextInt(BitBoard.CELLS);
+                } while (!board.isEmpty(cell));
+                board.play(cell, board.sideToMove());
+                last = cell;
+            }
+            if (board.isGameOver()) continue;
+
+            xMasks[filled] = board.mask(BitBoard.X);
+            oMasks[filled] = board.mask(BitBoard.O);
+            lastMoves[filled] = last;
+            legacyBoards[filled] = toLegacy(board);
+            filled++;
+        }
+    }
+
+    /**
+     * Copies a bitboard into the original int[][] layout.
+     */
+    static int[][] toLegacy(BitBoard board) {
+        int[][] legacy = LegacyBoard.resetBoard();
+        for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+            legacy[BitBoard.row(cell)][BitBoard.col(cell)] = board.get(cell);
+        }
+        return legacy;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.portfilioproject.benchmarks;
+
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.engine.GridBoard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Win detection: the original 24-lookup checkWin against the bitboard mask test and the
+ * incremental N x N line scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(Positions.COUNT)
+public class WinCheckBenchmark {
+
+    private Positions positions;
+    private BitBoard[] bitBoards;
+    private GridBoard[] gridBoards;
+
+    @Setup
+    public void setup() {
+        positions = new Positions();
+        bitBoards = new BitBoard[Positions.COUNT];
+        gridBoards = new GridBoard[Positions.COUNT];
+        for (int i = 0; i < Positions.COUNT; i++) {
+            bitBoards[i] = new BitBoard(positions.xMasks[i], positions.oMasks[i]);
+            gridBoards[i] = new GridBoard(BitBoard.SIZE, BitBoard.SIZE);
+            for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+                int player = bitBoards[i].get(cell);
+                if (player != BitBoard.EMPTY) gridBoards[i].play(cell, player);
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyCheckWin(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            int last = positions.lastMoves[i];
+            blackhole.consume(LegacyBoard.checkWin(BitBoard.row(last), BitBoard.col(last), 'X', positions.legacyBoards[i]));
+        }
+    }
+
+    @Benchmark
+    public void bitBoardHasWon(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            blackhole.consume(bitBoards[i].hasWon(BitBoard.X));
+        }
+    }
+
+    @Benchmark
+    public void gridBoardIsWinningLine(Blackhole blackhole) {
+        for (int i = 0; i < Positions.COUNT; i++) {
+            blackhole.consume(gridBoards[i].isWinningLine(positions.lastMoves[i], BitBoard.X));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.portfilioproject;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Build tool that packs the button and text images into texture atlases for {@link FileAssets}.
+ *
+ * Each atlas is written as a PNG plus an index file listing where every sprite sits in it, one line
+ * per sprite: {@code <sprite path> <x> <y> <width> <height>}. The game then loads one image per
+ * atlas and shows each sprite through a viewport, instead of opening and decoding every PNG on its own.
+ *
+ * The sprite images live in {@code src/main/atlas}, outside the resources, so only the atlases are
+ * shipped. Maven runs this tool in the {@code process-classes} phase and writes the atlases straight
+ * into the build output, so they are always packed from the current images.
+ *
+ * Usage: {@code AtlasPacker [sprite directory] [output directory]} (defaults to {@code src/main/atlas}
+ * and {@code target/classes/images/atlas}). It uses ImageIO, so when running on the module path add
+ * {@code --add-modules java.desktop}.
+ */
+public final class AtlasPacker {
+
+    private static final String DEFAULT_SOURCE = "src/main/atlas";
+    private static final String DEFAULT_OUTPUT = "target/classes/images/atlas";
+
+    // Widest an atlas is allowed to get, and the gap between sprites so smoothing never bleeds into a neighbour
+    private static final int MAX_WIDTH = 1024;
+    private static final int PADDING = 2;
+
+    // The sprites in each atlas: the title screen atlas, and one for the game, menu and winner screens
+    static final Map<String, List<String>> ATLASES = Map.of(
+            FileAssets.TITLE_ATLAS, List.of(
+                    "images/buttons/btnClose.png", "images/buttons/btnCloseHover.png",
+                    "images/buttons/btnMin.png", "images/buttons/btnMinHover.png",
+                    "images/buttons/btnMute.png", "images/buttons/btnMuted.png",
+                    "images/buttons/btnMenu.png", "images/buttons/btnMenuHover.png",
+                    "images/buttons/btnStart.png", "images/buttons/btnStartHover.png"),
+            FileAssets.GAME_ATLAS, List.of(
+                    "images/buttons/btnMenuClose.png", "images/buttons/btnMenuClose_Hovered.png",
+                    "images/buttons/btnResetScores.png", "images/buttons/btnResetScores_Hovered.png",
+                    "images/buttons/btnExportScores.png", "images/buttons/btnExportScores_Hovered.png",
+                    "images/buttons/btnVSComputer.png", "images/buttons/btnPlayerVSPlayer.png",
+                    "images/buttons/btnRestart.png", "images/buttons/btnRestartHover.png",
+                    "images/buttons/btnX.png", "images/buttons/btnO.png",
+                    "images/texts/plrOMsg.png", "images/texts/plrXMsg.png", "images/texts/drawMsg.png")
+    );
+
+    private AtlasPacker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path source = Path.of(args.length > 0 ? args[0] : DEFAULT_SOURCE);
+        Path output = Path.of(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+        Files.createDirectories(output);
+        for (Map.Entry<String, List<String>> atlas : ATLASES.entrySet()) {
+            pack(atlas.getKey(), atlas.getValue(), source, output);
+        }
+    }
+
+    /**
+     * Packs the sprites into one image with simple shelf packing: the tallest sprites go first,
+     * left to right, starting a new row whenever the current one is full.
+     *
+     * @param name the atlas name, used for the .png and .idx file names
+     * @param paths the paths of the sprites to pack, relative to the sprite directory
+     * @param source the sprite directory
+     * @param output the directory to write the atlas to
+     * @throws IOException if a sprite cannot be read or the atlas cannot be written
+     */
+    static void pack(String name, List<String> paths, Path source, Path output) throws IOException {
+        // Read every sprite, tallest first
+        List<Placement> sprites = new ArrayList<>();
+        for (String path : paths) {
+            sprites.add(new Placement(path, read(source.resolve(path))));
+        }
+        sprites.sort(Comparator.comparingInt((Placement sprite) -> sprite.image.getHeight()).reversed());
+
+        // Place the sprites row by row
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        int width = 0;
+        for (Placement sprite : sprites) {
+            if (x > 0 && x + sprite.image.getWidth() > MAX_WIDTH) {
+                x = 0;
+                y += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+            sprite.x = x;
+            sprite.y = y;
+            x += sprite.image.getWidth() + PADDING;
+            rowHeight = Math.max(rowHeight, sprite.image.getHeight());
+            width = Math.max(width, sprite.x + sprite.image.getWidth());
+        }
+        int height = y + rowHeight;
+
+        // Draw the atlas and write the index in the same order
+        BufferedImage atlas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        try (PrintWriter index = new PrintWriter(Files.newBufferedWriter(output.resolve(name + ".idx")))) {
+            index.println("# sprite x y width height");
+            for (Placement sprite : sprites) {
+                // Copy the pixels exactly, whatever format the sprite was saved in
+                int w = sprite.image.getWidth();
+                int h = sprite.image.getHeight();
+                atlas.setRGB(sprite.x, sprite.y, w, h, sprite.image.getRGB(0, 0, w, h, null, 0, w), 0, w);
+                index.printf("%s %d %d %d %d%n", sprite.path, sprite.x, sprite.y, w, h);
+            }
+        }
+        ImageIO.write(atlas, "png", output.resolve(name + ".png").toFile());
+        System.out.printf("Packed %d sprites into %s.png (%dx%d)%n", sprites.size(), name, width, height);
+    }
+
+    private static BufferedImage read(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            BufferedImage image = ImageIO.read(in);
+            if (image == null) {
+                throw new IOException("Not an image: " + path);
+            }
+            return image;
+        }
+    }
+
+    /**
+     * A sprite being packed and its position in the atlas.
+     */
+    private static final class Placement {
+        final String path;
+        final BufferedImage image;
+        int x;
+        int y;
+
+        Placement(String path, BufferedImage image) {
+            this.path = path;
+            this.image = image;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.portfilioproject;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+import java.net.URL;
+
+/**
+ * Plays the background music and switches between the normal and fast versions of it.
+ *
+ * Both tracks are opened up front, so switching never waits on a file. Instead of stopping one
+ * track and restarting the other from the beginning, the other track is moved to the same point in
+ * the music (scaled by the difference in length, as the fast track is the same music at a higher
+ * tempo) and the two are crossfaded.
+ *
+ * When the game is muted or minimized, both players are disposed so their decoders are released,
+ * and the music picks up from the same point when it is started again.
+ *
+ * Tracks are given without an extension and the most compact version found in the resources is
+ * used: AAC (.m4a), then MP3, then WAV.
+ */
+public class AudioManager {
+
+    // Supported formats, most compact first
+    private static final String[] EXTENSIONS = {".m4a", ".mp3", ".wav"};
+
+    // How long a switch between the tracks takes
+    private static final Duration CROSSFADE = Duration.millis(400);
+
+    // Resource paths of the tracks, without an extension
+    private final String normalTrack;
+    private final String fastTrack;
+
+    // Playback state
+    private MediaPlayer normalPlayer;
+    private MediaPlayer fastPlayer;
+    private Timeline fade;
+    private boolean fast = false; // Which track should be heard
+    private double position = 0; // How far through the music playback was when it was released (0 to 1)
+
+    /**
+     * Creates an audio manager. Nothing is loaded until {@link #start()} is called.
+     *
+     * @param normalTrack the resource path of the normal music, without an extension
+     * @param fastTrack the resource path of the fast music, without an extension
+     */
+    public AudioManager(String normalTrack, String fastTrack) {
+        this.normalTrack = normalTrack;
+        this.fastTrack = fastTrack;
+    }
+
+    /**
+     * Opens both tracks and starts the current one where the music was left off.
+     * Does nothing if the music is already playing.
+     */
+    public void start() {
+        if (normalPlayer != null) return;
+        try {
+            normalPlayer = createPlayer(normalTrack);
+            fastPlayer = createPlayer(fastTrack);
+        } catch (RuntimeException e) {
+            // The game still works without music
+            System.err.println("Error loading music: " + e.getMessage());
+            release();
+            return;
+        }
+
+        // Only the current track plays; the other waits, already loaded, at zero volume
+        MediaPlayer active = fast ? fastPlayer : normalPlayer;
+        MediaPlayer waiting = fast ? normalPlayer : fastPlayer;
+        waiting.setVolume(0);
+        double resumeAt = position;
+        active.setOnReady(() -> {
+            active.seek(timeAt(active, resumeAt));
+            active.play();
+        });
+    }
+
+    /**
+     * Switches between the normal and fast music with a crossfade, keeping the same point in the music.
+     * If the music is not playing, the choice is remembered for when it starts.
+     *
+     * @param fast true for the fast music, false for the normal music
+     */
+    public void setFast(boolean fast) {
+        if (this.fast == fast) return;
+        this.fast = fast;
+        if (normalPlayer == null) return;
+
+        MediaPlayer from = fast ? normalPlayer : fastPlayer;
+        MediaPlayer to = fast ? fastPlayer : normalPlayer;
+        if (fade != null) {
+            fade.stop();
+        }
+
+        // Start the other track at the same point in the music, unless it is still fading out
+        if (to.getStatus() != MediaPlayer.Status.PLAYING) {
+            to.seek(timeAt(to, progress(from)));
+            to.play();
+        }
+
+        fade = new Timeline(new KeyFrame(CROSSFADE,
+                new KeyValue(from.volumeProperty(), 0.0),
+                new KeyValue(to.volumeProperty(), 1.0)));
+        fade.setOnFinished(e -> from.pause());
+        fade.play();
+    }
+
+    /**
+     * Releases or restarts the music for the mute button.
+     *
+     * @param muted true to release the music, false to start it again
+     */
+    public void setMuted(boolean muted) {
+        if (muted) {
+            release();
+        } else {
+            start();
+        }
+    }
+
+    /**
+     * Stops the music and disposes both players, remembering how far through the music it was.
+     */
+    public void release() {
+        if (fade != null) {
+            fade.stop();
+            fade = null;
+        }
+        MediaPlayer active = fast ? fastPlayer : normalPlayer;
+        if (active != null) {
+            position = progress(active);
+        }
+        if (normalPlayer != null) {
+            normalPlayer.dispose();
+            normalPlayer = null;
+        }
+        if (fastPlayer != null) {
+            fastPlayer.dispose();
+            fastPlayer = null;
+        }
+    }
+
+    private static MediaPlayer createPlayer(String track) {
+        URL url = null;
+        for (String extension : EXTENSIONS) {
+            url = AudioManager.class.getResource(track + extension);
+            if (url != null) break;
+        }
+        if (url == null) {
+            throw new IllegalStateException("Music not found: " + track);
+        }
+        MediaPlayer player = new MediaPlayer(new Media(url.toExternalForm()));
+        player.setCycleCount(MediaPlayer.INDEFINITE);
+        player.setOnError(() -> System.err.println("Error playing music: " + player.getError()));
+        return player;
+    }
+
+    /**
+     * @return how far through its track the player is, from 0 to 1
+     */
+    private static double progress(MediaPlayer player) {
+        Duration length = player.getMedia().getDuration();
+        if (length == null || length.isUnknown() || length.toMillis() <= 0) return 0;
+        return (player.getCurrentTime().toMillis() % length.toMillis()) / length.toMillis();
+    }
+
+    /**
+     * @return the time in the player's track at the given fraction of the way through it
+     */
+    private static Duration timeAt(MediaPlayer player, double progress) {
+        Duration length = player.getMedia().getDuration();
+        if (length == null || length.isUnknown()) return Duration.ZERO;
+        return Duration.millis(progress * length.toMillis());
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.portfilioproject;
+
+import com.example.portfilioproject.engine.BitBoard;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * Draws many 3x3 boards straight onto one canvas, laid out as a grid of equal tiles.
+ *
+ * Nothing is kept per board apart from its position on the canvas, so drawing hundreds of boards
+ * costs no scene graph nodes. Callers redraw only what changed: one cell after a move, a whole
+ * board after it is cleared, and the result tint when a game ends. Every redraw first paints the
+ * matching slice of the background and the grid image back over the area, so nothing is left behind.
+ */
+final class BoardRenderer {
+
+    // Space between boards, and the status line at the bottom of the canvas
+    private static final double GAP = 8;
+    private static final double STATUS_HEIGHT = 24;
+
+    // Size of one cell in the grid image, and the share of a cell the X and O images fill
+    private static final double GRID_CELL = 155;
+    private static final double MARK_SCALE = 132 / GRID_CELL;
+
+    // Tints laid over finished boards
+    private static final Color X_WIN_TINT = Color.rgb(70, 130, 220, 0.35);
+    private static final Color O_WIN_TINT = Color.rgb(220, 80, 80, 0.35);
+    private static final Color DRAW_TINT = Color.rgb(90, 90, 102, 0.35);
+
+    private final GraphicsContext gc;
+    private final double width;
+    private final double height;
+    private final int boards;
+    private final int columns;
+    private final double tileSize;
+    private final double left;
+    private final double top;
+
+    /**
+     * Works out the largest tiles that fit every board on the canvas.
+     *
+     * @param gc the canvas to draw on
+     * @param width the canvas width
+     * @param height the canvas height
+     * @param boards the number of boards
+     */
+    BoardRenderer(GraphicsContext gc, double width, double height, int boards) {
+        this.gc = gc;
+        this.width = width;
+        this.height = height;
+        this.boards = boards;
+
+        // Try every column count and keep the one giving the biggest tiles
+        double boardHeight = height - STATUS_HEIGHT;
+        int bestColumns = 1;
+        double bestTile = 0;
+        for (int candidate = 1; candidate <= boards; candidate++) {
+            int rows = (boards + candidate - 1) / candidate;
+            double tile = Math.min((width - GAP) / candidate, (boardHeight - GAP) / rows) - GAP;
+            if (tile > bestTile) {
+                bestTile = tile;
+                bestColumns = candidate;
+            }
+        }
+        columns = bestColumns;
+        tileSize = Math.max(1, Math.floor(bestTile));
+        int rows = (boards + columns - 1) / columns;
+        left = Math.floor((width - columns * (tileSize + GAP) + GAP) / 2);
+        top = Math.floor((boardHeight - rows * (tileSize + GAP) + GAP) / 2);
+    }
+
+    /**
+     * Paints the background over the whole canvas.
+     */
+    void drawBackground() {
+        drawBackground(0, 0, width, height);
+    }
+
+    /**
+     * Draws a whole board: background, grid and every mark.
+     *
+     * @param index the board's position in the layout
+     * @param board the board to draw
+     */
+    void drawBoard(int index, BitBoard board) {
+        for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+            drawCell(index, cell, board.get(cell));
+        }
+    }
+
+    /**
+     * Draws one cell of a board: background, its slice of the grid, and its mark if it has one.
+     *
+     * @param index the board's position in the layout
+     * @param cell the cell index (0-8)
+     * @param player the player on the cell (0 for 'X', 1 for 'O', -1 for empty)
+     */
+    void drawCell(int index, int cell, int player) {
+        double cellSize = tileSize / BitBoard.SIZE;
+        double x = tileX(index) + BitBoard.col(cell) * cellSize;
+        double y = tileY(index) + BitBoard.row(cell) * cellSize;
+
+        drawBackground(x, y, cellSize, cellSize);
+        gc.drawImage(FileAssets.GRID, BitBoard.col(cell) * GRID_CELL, BitBoard.row(cell) * GRID_CELL,
+                GRID_CELL, GRID_CELL, x, y, cellSize, cellSize);
+        if (player != BitBoard.EMPTY) {
+            Sprite mark = player == BitBoard.X ? FileAssets.X : FileAssets.O;
+            double markSize = cellSize * MARK_SCALE;
+            double inset = (cellSize - markSize) / 2;
+            gc.drawImage(mark.image(), mark.viewport().getMinX(), mark.viewport().getMinY(),
+                    mark.getWidth(), mark.getHeight(), x + inset, y + inset, markSize, markSize);
+        }
+    }
+
+    /**
+     * Tints a finished board with the colour of its result.
+     *
+     * @param index the board's position in the layout
+     * @param winner the winner (0 for 'X', 1 for 'O'), or -1 for a draw
+     */
+    void drawResult(int index, int winner) {
+        gc.setFill(winner == BitBoard.X ? X_WIN_TINT : winner == BitBoard.O ? O_WIN_TINT : DRAW_TINT);
+        gc.fillRect(tileX(index), tileY(index), tileSize, tileSize);
+    }
+
+    /**
+     * Replaces the status line at the bottom of the canvas.
+     *
+     * @param text the text to show
+     */
+    void drawStatus(String text) {
+        double y = height - STATUS_HEIGHT;
+        drawBackground(0, y, width, STATUS_HEIGHT);
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font(14));
+        gc.fillText(text, GAP, height - 7);
+    }
+
+    /**
+     * @param x the x position on the canvas
+     * @param y the y position on the canvas
+     * @return the position in the layout of the board at that point, or -1 if there is none
+     */
+    int boardAt(double x, double y) {
+        int column = (int) Math.floor((x - left) / (tileSize + GAP));
+        int row = (int) Math.floor((y - top) / (tileSize + GAP));
+        if (column < 0 || column >= columns || row < 0) return -1;
+        int index = row * columns + column;
+        if (index >= boards) return -1;
+        // Clicks in the gap between boards do not count
+        if (x - tileX(index) >= tileSize || y - tileY(index) >= tileSize) return -1;
+        return index;
+    }
+
+    /**
+     * @param index the board's position in the layout
+     * @param x the x position on the canvas
+     * @param y the y position on the canvas
+     * @return the cell of the board at that point, or -1 if the point is not on the board
+     */
+    int cellAt(int index, double x, double y) {
+        double cellSize = tileSize / BitBoard.SIZE;
+        int col = (int) Math.floor((x - tileX(index)) / cellSize);
+        int row = (int) Math.floor((y - tileY(index)) / cellSize);
+        if (col < 0 || col >= BitBoard.SIZE || row < 0 || row >= BitBoard.SIZE) return -1;
+        return BitBoard.cell(row, col);
+    }
+
+    private double tileX(int index) {
+        return left + (index % columns) * (tileSize + GAP);
+    }
+
+    private double tileY(int index) {
+        return top + (index / columns) * (tileSize + GAP);
+    }
+
+    /**
+     * Paints the part of the background image that lies under an area of the canvas.
+     * The background is stretched over the whole canvas.
+     */
+    private void drawBackground(double x, double y, double w, double h) {
+        Image background = FileAssets.BKG_CLOUDS_BLURRED;
+        double scaleX = background.getWidth() / width;
+        double scaleY = background.getHeight() / height;
+        gc.drawImage(background, x * scaleX, y * scaleY, w * scaleX, h * scaleY, x, y, w, h);
+    }
+}
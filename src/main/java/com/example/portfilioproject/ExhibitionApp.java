@@ -0,0 +1,223 @@
+package com.example.portfilioproject;
+
+import com.example.portfilioproject.ai.CreatorPlayer;
+import com.example.portfilioproject.ai.Player;
+import com.example.portfilioproject.engine.BitBoard;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Pane;
+import javafx.stage.Screen;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Kiosk mode: one full-screen window showing many boards at once, like a simultaneous exhibition.
+ *
+ * The computer plays both sides on every board until someone clicks a free cell on a board where
+ * 'X' is to move. That person then plays 'X' on that board against the computer until the game
+ * ends, or until they walk away for {@link #HUMAN_TIMEOUT_NANOS} and the computer takes over again.
+ * Finished boards show their result for a moment and then start a new game.
+ *
+ * All boards are drawn on a single {@link Canvas} by a {@link BoardRenderer}, and every pulse only
+ * redraws the cells that changed, so hundreds of boards hold the display's frame rate.
+ *
+ * Usage: {@code ExhibitionApp [boards]} (defaults to 100).
+ */
+public class ExhibitionApp extends Application {
+
+    private static final int DEFAULT_BOARDS = 100;
+
+    // How long the computer waits before each move, picked at random in this range so boards move out of step
+    private static final long MIN_MOVE_DELAY_NANOS = 400_000_000L;
+    private static final long MAX_MOVE_DELAY_NANOS = 1_600_000_000L;
+    // How long the computer waits before answering a person, and how long a result stays up
+    private static final long REPLY_DELAY_NANOS = 300_000_000L;
+    private static final long RESULT_PAUSE_NANOS = 2_500_000_000L;
+    // How long a person can leave their board before the computer plays 'X' again
+    private static final long HUMAN_TIMEOUT_NANOS = 30_000_000_000L;
+    private static final long STATUS_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final Player computer = new CreatorPlayer();
+    private final SplittableRandom random = new SplittableRandom();
+
+    // Per-board state, by position in the layout
+    private BitBoard[] boards;
+    private int[] dirtyCells; // Cells changed since the last frame
+    private boolean[] dirtyBoards; // Boards to redraw completely
+    private boolean[] finished;
+    private boolean[] humanX; // True while a person is playing 'X' on the board
+    private long[] nextMoveAt; // When the computer moves next, or when a finished board restarts
+    private long[] lastHumanMove;
+
+    private BoardRenderer renderer;
+    private long gamesPlayed = 0;
+    private long frames = 0;
+    private long statusAt = 0;
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    @Override
+    public void start(Stage stage) {
+        List<String> args = getParameters().getRaw();
+        int count = args.isEmpty() ? DEFAULT_BOARDS : Integer.parseInt(args.get(0));
+        if (count < 1) {
+            throw new IllegalArgumentException("The number of boards must be at least 1: " + count);
+        }
+        FileAssets.loadRemainingAssets().join();
+        createBoards(count);
+
+        // One canvas filling the screen
+        Rectangle2D bounds = Screen.getPrimary().getVisualBounds();
+        Canvas canvas = new Canvas(bounds.getWidth(), bounds.getHeight());
+        renderer = new BoardRenderer(canvas.getGraphicsContext2D(), bounds.getWidth(), bounds.getHeight(), count);
+        renderer.drawBackground();
+        canvas.setOnMouseClicked(e -> onClick(e.getX(), e.getY()));
+
+        AnimationTimer timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                update(now);
+                render(now);
+            }
+        };
+
+        stage.setScene(new Scene(new Pane(canvas), bounds.getWidth(), bounds.getHeight()));
+        stage.setTitle("Tic-Tac-Toe Exhibition");
+        stage.initStyle(StageStyle.UNDECORATED);
+        stage.setX(bounds.getMinX());
+        stage.setY(bounds.getMinY());
+        stage.setOnHidden(e -> timer.stop());
+        stage.show();
+        timer.start();
+    }
+
+    private void createBoards(int count) {
+        boards = new BitBoard[count];
+        dirtyCells = new int[count];
+        dirtyBoards = new boolean[count];
+        finished = new boolean[count];
+        humanX = new boolean[count];
+        nextMoveAt = new long[count];
+        lastHumanMove = new long[count];
+        long now = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            boards[i] = new BitBoard();
+            dirtyBoards[i] = true;
+            nextMoveAt[i] = now + moveDelay();
+        }
+    }
+
+    /**
+     * Plays the computer's moves that are due and restarts boards whose result has been shown long enough.
+     *
+     * @param now the time of the current pulse, in nanoseconds
+     */
+    private void update(long now) {
+        for (int i = 0; i < boards.length; i++) {
+            if (now < nextMoveAt[i]) continue;
+            BitBoard board = boards[i];
+            if (finished[i]) {
+                board.reset();
+                finished[i] = false;
+                humanX[i] = false;
+                dirtyBoards[i] = true;
+                nextMoveAt[i] = now + moveDelay();
+                continue;
+            }
+
+            int player = board.sideToMove();
+            if (player == BitBoard.X && humanX[i]) {
+                // Wait for the person, unless they have left
+                if (now - lastHumanMove[i] < HUMAN_TIMEOUT_NANOS) continue;
+                humanX[i] = false;
+            }
+            play(i, computer.chooseMove(board, random), player, now);
+        }
+    }
+
+    /**
+     * Plays a move on a board, marks the cell for redrawing and schedules what happens next.
+     */
+    private void play(int index, int cell, int player, long now) {
+        BitBoard board = boards[index];
+        board.play(cell, player);
+        dirtyCells[index] |= 1 << cell;
+
+        if (board.hasWon(player) || board.isFull()) {
+            finished[index] = true;
+            gamesPlayed++;
+            nextMoveAt[index] = now + RESULT_PAUSE_NANOS;
+        } else if (humanX[index]) {
+            // Answer the person quickly, then wait for them
+            nextMoveAt[index] = player == BitBoard.X ? now + REPLY_DELAY_NANOS : now;
+        } else {
+            nextMoveAt[index] = now + moveDelay();
+        }
+    }
+
+    /**
+     * Redraws whatever changed since the last pulse, and the status line once a second.
+     *
+     * @param now the time of the current pulse, in nanoseconds
+     */
+    private void render(long now) {
+        for (int i = 0; i < boards.length; i++) {
+            boolean changed = dirtyBoards[i] || dirtyCells[i] != 0;
+            if (dirtyBoards[i]) {
+                renderer.drawBoard(i, boards[i]);
+            } else {
+                for (int cells = dirtyCells[i]; cells != 0; cells &= cells - 1) {
+                    int cell = Integer.numberOfTrailingZeros(cells);
+                    renderer.drawCell(i, cell, boards[i].get(cell));
+                }
+            }
+            if (changed && finished[i]) {
+                BitBoard board = boards[i];
+                renderer.drawResult(i, board.hasWon(BitBoard.X) ? BitBoard.X : board.hasWon(BitBoard.O) ? BitBoard.O : BitBoard.EMPTY);
+            }
+            dirtyBoards[i] = false;
+            dirtyCells[i] = 0;
+        }
+
+        frames++;
+        if (now - statusAt >= STATUS_INTERVAL_NANOS) {
+            double fps = statusAt == 0 ? 0 : frames * 1e9 / (now - statusAt);
+            int humans = 0;
+            for (boolean human : humanX) {
+                if (human) humans++;
+            }
+            renderer.drawStatus(String.format("%d boards   %d playing   %,d games   %.0f fps",
+                    boards.length, humans, gamesPlayed, fps));
+            statusAt = now;
+            frames = 0;
+        }
+    }
+
+    /**
+     * Lets a person play 'X' on the board they clicked, if it is 'X' to move there.
+     */
+    private void onClick(double x, double y) {
+        int index = renderer.boardAt(x, y);
+        if (index < 0) return;
+        int cell = renderer.cellAt(index, x, y);
+        BitBoard board = boards[index];
+        if (cell < 0 || finished[index] || board.sideToMove() != BitBoard.X || !board.isEmpty(cell)) return;
+
+        long now = System.nanoTime();
+        humanX[index] = true;
+        lastHumanMove[index] = now;
+        play(index, cell, BitBoard.X, now);
+    }
+
+    private long moveDelay() {
+        return random.nextLong(MIN_MOVE_DELAY_NANOS, MAX_MOVE_DELAY_NANOS);
+    }
+}
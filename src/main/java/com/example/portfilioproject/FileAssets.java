@@ -1,8 +1,23 @@
 package com.example.portfilioproject;
 
+import com.example.portfilioproject.metrics.Metrics;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 
 public class FileAssets  {
@@ -11,35 +26,35 @@ public class FileAssets  {
     public static Image LOGO;
 
     //Title Bar Buttons
-    public static Image CLOSE;
-    public static Image CLOSE_HOVER;
-    public static Image MINIMIZE;
-    public static Image MINIMIZE_HOVER;
-    public static Image MUTE;
-    public static Image MUTE_HOVER;
+    public static Sprite CLOSE;
+    public static Sprite CLOSE_HOVER;
+    public static Sprite MINIMIZE;
+    public static Sprite MINIMIZE_HOVER;
+    public static Sprite MUTE;
+    public static Sprite MUTE_HOVER;
 
     //Menu
     public static Image MENU_BKG;
-    public static Image MENU;
-    public static Image MENU_HOVER;
-    public static Image MENU_CLOSE;
-    public static Image MENU_CLOSE_HOVER;
-    public static Image RESET_SCORES;
-    public static Image RESET_SCORES_HOVER;
-    public static Image EXPORT_SCORES;
-    public static Image EXPORT_SCORES_HOVER;
-    public static Image VERSUS_COMPUTER;
-    public static Image PLAYER_VERSUS_PLAYER;
+    public static Sprite MENU;
+    public static Sprite MENU_HOVER;
+    public static Sprite MENU_CLOSE;
+    public static Sprite MENU_CLOSE_HOVER;
+    public static Sprite RESET_SCORES;
+    public static Sprite RESET_SCORES_HOVER;
+    public static Sprite EXPORT_SCORES;
+    public static Sprite EXPORT_SCORES_HOVER;
+    public static Sprite VERSUS_COMPUTER;
+    public static Sprite PLAYER_VERSUS_PLAYER;
 
     //Play Buttons
-    public static Image START;
-    public static Image START_HOVER;
-    public static Image RESTART;
-    public static Image RESTART_HOVER;
+    public static Sprite START;
+    public static Sprite START_HOVER;
+    public static Sprite RESTART;
+    public static Sprite RESTART_HOVER;
 
     //Grid Buttons
-    public static Image X;
-    public static Image O;
+    public static Sprite X;
+    public static Sprite O;
 
     //Background Images
     public static Image BACKGROUND_CLOUDS;
@@ -52,76 +67,196 @@ public class FileAssets  {
     public static Image BKG_DRAW;
 
     //Text Images
-    public static Image PLR_O_MSG;
-    public static Image PLR_X_MSG;
-    public static Image DRAW_MSG;
+    public static Sprite PLR_O_MSG;
+    public static Sprite PLR_X_MSG;
+    public static Sprite DRAW_MSG;
+
+
+    // Texture atlases packed by AtlasPacker during the build, holding the button and text sprites
+    static final String TITLE_ATLAS = "title";
+    static final String GAME_ATLAS = "game";
+    private static final String ATLAS_DIRECTORY = "images/atlas/";
+
+    // Title screen assets, which are needed before the first frame can be shown
+    private static final List<Asset> TITLE_ASSETS = List.of(
+            new Asset(atlasPath(TITLE_ATLAS), atlas -> loadSprites(TITLE_ATLAS, atlas)),
+            new Asset("images/backgrounds/bkgClouds.gif", image -> BACKGROUND_CLOUDS = image),
+            new Asset("images/backgrounds/bkgCloudsHover.gif", image -> BACKGROUND_CLOUDS_HOVER = image),
+            new Asset("images/backgrounds/bkgImage675x800.png", image -> BACKGROUND = image),
+            new Asset("images/logo.png", image -> LOGO = image)
+    );
+
+    // Game, menu and winner screen assets, which can load while the title screen is up
+    private static final List<Asset> OTHER_ASSETS = List.of(
+            new Asset(atlasPath(GAME_ATLAS), atlas -> loadSprites(GAME_ATLAS, atlas)),
+            new Asset("images/backgrounds/MenuStageBkg.png", image -> MENU_BKG = image),
+            new Asset("images/backgrounds/cloudsBlurred.png", image -> BKG_CLOUDS_BLURRED = image),
+            new Asset("images/backgrounds/Grid.png", image -> GRID = image),
+            new Asset("images/backgrounds/bkgDay.png", image -> BKG_DAY = image),
+            new Asset("images/backgrounds/bkgNight.png", image -> BKG_NIGHT = image),
+            new Asset("images/backgrounds/bkgDraw.png", image -> BKG_DRAW = image)
+    );
+
+    // How long each asset took to load, in nanoseconds
+    private static final Map<String, Long> LOAD_TIMES = new ConcurrentHashMap<>();
+
+    // Completes once every asset outside the title screen has loaded
+    private static CompletableFuture<Void> otherAssets;
 
 
     /**
-     * Loads all the required image assets into their respective static fields.
-     * This method initializes images for buttons and backgrounds used across the application.
+     * Loads all the required image assets into their respective static fields, one after another
+     * on the calling thread. This is the original loading path, kept for comparing startup times
+     * (run with -Dassets.sequential=true).
+     */
+    public static void loadFiles() {
+        TITLE_ASSETS.forEach(FileAssets::load);
+        OTHER_ASSETS.forEach(FileAssets::load);
+        otherAssets = CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Loads the title screen assets (title bar buttons, start and menu buttons, backgrounds and logo)
+     * in parallel and waits for them, so the title screen can be shown straight away.
+     */
+    public static void loadTitleAssets() {
+        loadAll(TITLE_ASSETS).join();
+    }
+
+    /**
+     * Starts loading every other asset in the background. Call {@link #awaitAssets()} before using them.
      *
-     * The assets include:
-     * - Title bar buttons: close, minimize, and mute buttons with their hover state images.
-     * - Grid buttons: X and O buttons for gameplay.
-     * - Background images: various background images for different states and layouts.
+     * @return a future that completes once the assets have loaded
+     */
+    public static CompletableFuture<Void> loadRemainingAssets() {
+        otherAssets = loadAll(OTHER_ASSETS);
+        return otherAssets;
+    }
+
+    /**
+     * Waits for the background assets to finish loading. By the time a player has clicked start
+     * they have normally already loaded, so this returns immediately.
+     */
+    public static void awaitAssets() {
+        if (otherAssets != null) {
+            otherAssets.join();
+        }
+    }
+
+    /**
+     * @return how long each loaded asset took, in nanoseconds, by resource path
+     */
+    public static Map<String, Long> getLoadTimes() {
+        return Collections.unmodifiableMap(LOAD_TIMES);
+    }
+
+    /**
+     * Prints how long each loaded asset took, slowest first.
+     */
+    public static void printLoadTimes() {
+        LOAD_TIMES.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> System.out.printf("%6.1f ms  %s%n", entry.getValue() / 1_000_000.0, entry.getKey()));
+    }
+
+    /**
+     * Reads an atlas index and points the sprite fields for that atlas at their area of the atlas image.
      *
-     * The images are loaded using the relative file paths specified within the application's resource directory.
-     * Each static field is assigned an Image instance corresponding to the loaded asset.
+     * @param name the atlas name
+     * @param atlas the decoded atlas image
+     */
+    private static void loadSprites(String name, Image atlas) {
+        Map<String, Rectangle2D> index = readIndex(name);
+        if (name.equals(TITLE_ATLAS)) {
+            //Title Bar Buttons
+            CLOSE = sprite(atlas, index, "images/buttons/btnClose.png");
+            CLOSE_HOVER = sprite(atlas, index, "images/buttons/btnCloseHover.png");
+            MINIMIZE = sprite(atlas, index, "images/buttons/btnMin.png");
+            MINIMIZE_HOVER = sprite(atlas, index, "images/buttons/btnMinHover.png");
+            MUTE = sprite(atlas, index, "images/buttons/btnMute.png");
+            MUTE_HOVER = sprite(atlas, index, "images/buttons/btnMuted.png");
+
+            //Title Screen Buttons
+            MENU = sprite(atlas, index, "images/buttons/btnMenu.png");
+            MENU_HOVER = sprite(atlas, index, "images/buttons/btnMenuHover.png");
+            START = sprite(atlas, index, "images/buttons/btnStart.png");
+            START_HOVER = sprite(atlas, index, "images/buttons/btnStartHover.png");
+        } else {
+            //Menu
+            MENU_CLOSE = sprite(atlas, index, "images/buttons/btnMenuClose.png");
+            MENU_CLOSE_HOVER = sprite(atlas, index, "images/buttons/btnMenuClose_Hovered.png");
+            RESET_SCORES = sprite(atlas, index, "images/buttons/btnResetScores.png");
+            RESET_SCORES_HOVER = sprite(atlas, index, "images/buttons/btnResetScores_Hovered.png");
+            EXPORT_SCORES = sprite(atlas, index, "images/buttons/btnExportScores.png");
+            EXPORT_SCORES_HOVER = sprite(atlas, index, "images/buttons/btnExportScores_Hovered.png");
+            VERSUS_COMPUTER = sprite(atlas, index, "images/buttons/btnVSComputer.png");
+            PLAYER_VERSUS_PLAYER = sprite(atlas, index, "images/buttons/btnPlayerVSPlayer.png");
+
+            //Play Buttons and Grid Buttons
+            RESTART = sprite(atlas, index, "images/buttons/btnRestart.png");
+            RESTART_HOVER = sprite(atlas, index, "images/buttons/btnRestartHover.png");
+            X = sprite(atlas, index, "images/buttons/btnX.png");
+            O = sprite(atlas, index, "images/buttons/btnO.png");
+
+            //Text Images
+            PLR_O_MSG = sprite(atlas, index, "images/texts/plrOMsg.png");
+            PLR_X_MSG = sprite(atlas, index, "images/texts/plrXMsg.png");
+            DRAW_MSG = sprite(atlas, index, "images/texts/drawMsg.png");
+        }
+    }
+
+    /**
+     * Reads the index of an atlas: one line per sprite with its resource path, x, y, width and height.
      *
-     * Note: Ensure the file paths are valid and the resources exist in the specified locations.
+     * @param name the atlas name
+     * @return the area of the atlas holding each sprite, by resource path
+     * @throws UncheckedIOException if the index is missing or cannot be read
      */
+    private static Map<String, Rectangle2D> readIndex(String name) {
+        String path = "/" + ATLAS_DIRECTORY + name + ".idx";
+        InputStream stream = FileAssets.class.getResourceAsStream(path);
+        if (stream == null) {
+            throw new UncheckedIOException(new IOException("Atlas index not found (pack the atlases with mvn process-classes): " + path));
+        }
+        Map<String, Rectangle2D> index = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] parts = line.trim().split("\\s+");
+                index.put(parts[0], new Rectangle2D(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]),
+                        Double.parseDouble(parts[3]), Double.parseDouble(parts[4])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return index;
+    }
 
-    public static void loadFiles() {
-        //Title Bar Buttons
-        CLOSE = loadImages("images/buttons/btnClose.png");
-        CLOSE_HOVER = loadImages("images/buttons/btnCloseHover.png");
-        MINIMIZE = loadImages("images/buttons/btnMin.png");
-        MINIMIZE_HOVER = loadImages("images/buttons/btnMinHover.png");
-        MUTE = loadImages("images/buttons/btnMute.png");
-        MUTE_HOVER = loadImages("images/buttons/btnMuted.png");
-
-        //Menu
-        MENU_BKG = loadImages("images/backgrounds/MenuStageBkg.png");
-        MENU = loadImages("images/buttons/btnMenu.png");
-        MENU_HOVER = loadImages("images/buttons/btnMenuHover.png");
-        MENU_CLOSE = loadImages("images/buttons/btnMenuClose.png");
-        MENU_CLOSE_HOVER = loadImages("images/buttons/btnMenuClose_Hovered.png");
-        RESET_SCORES = loadImages("images/buttons/btnResetScores.png");
-        RESET_SCORES_HOVER = loadImages("images/buttons/btnResetScores_Hovered.png");
-        EXPORT_SCORES = loadImages("images/buttons/btnExportScores.png");
-        EXPORT_SCORES_HOVER = loadImages("images/buttons/btnExportScores_Hovered.png");
-        VERSUS_COMPUTER = loadImages("images/buttons/btnVSComputer.png");
-        PLAYER_VERSUS_PLAYER = loadImages("images/buttons/btnPlayerVSPlayer.png");
-
-
-        //Play Buttons
-        START = loadImages("images/buttons/btnStart.png");
-        START_HOVER = loadImages("images/buttons/btnStartHover.png");
-        RESTART = loadImages("images/buttons/btnRestart.png");
-        RESTART_HOVER = loadImages("images/buttons/btnRestartHover.png");
-
-        //Grid Buttons
-        X = loadImages("images/buttons/btnX.png");
-        O = loadImages("images/buttons/btnO.png");
-
-        //Background Images
-        BACKGROUND_CLOUDS = loadImages("images/backgrounds/bkgClouds.gif");
-        BACKGROUND_CLOUDS_HOVER = loadImages("images/backgrounds/bkgCloudsHover.gif");
-        BACKGROUND = loadImages("images/backgrounds/bkgImage675x800.png");
-        BKG_CLOUDS_BLURRED = loadImages("images/backgrounds/cloudsBlurred.png");
-        GRID = loadImages("images/backgrounds/Grid.png");
-        BKG_DAY = loadImages("images/backgrounds/bkgDay.png");
-        BKG_NIGHT = loadImages("images/backgrounds/bkgNight.png");
-        BKG_DRAW = loadImages("images/backgrounds/bkgDraw.png");
-
-        //Text Images
-        PLR_O_MSG = loadImages("images/texts/plrOMsg.png");
-        PLR_X_MSG = loadImages("images/texts/plrXMsg.png");
-        DRAW_MSG = loadImages("images/texts/drawMsg.png");
-
-        //Logo Image
-        LOGO = loadImages("images/logo.png");
+    private static Sprite sprite(Image atlas, Map<String, Rectangle2D> index, String path) {
+        Rectangle2D viewport = index.get(path);
+        if (viewport == null) {
+            throw new IllegalStateException("Sprite not found in atlas (pack the atlases with mvn process-classes): " + path);
+        }
+        return new Sprite(atlas, viewport);
+    }
+
+    private static String atlasPath(String name) {
+        return ATLAS_DIRECTORY + name + ".png";
+    }
+
+    private static CompletableFuture<Void> loadAll(List<Asset> assets) {
+        return CompletableFuture.allOf(assets.stream()
+                .map(asset -> CompletableFuture.runAsync(() -> load(asset)))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private static void load(Asset asset) {
+        long start = System.nanoTime();
+        asset.target().accept(loadImages(asset.path()));
+        long elapsed = System.nanoTime() - start;
+        LOAD_TIMES.put(asset.path(), elapsed);
+        Metrics.recordAssetLoad(asset.path(), elapsed);
     }
 
     /**
@@ -134,4 +269,10 @@ public class FileAssets  {
     public static Image loadImages(String path) {
         return new Image(Objects.requireNonNull(FileAssets.class.getResourceAsStream("/" + path)));
     }
+
+    /**
+     * An image resource and the field it is loaded into.
+     */
+    private record Asset(String path, Consumer<Image> target) {
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.portfilioproject;
+
+import javafx.scene.control.Button;
+import javafx.scene.image.ImageView;
+
+/**
+ * A button that shows one sprite normally and another while the mouse is over it.
+ *
+ * The button owns a single ImageView for its whole life, and hovering only swaps which image that
+ * view displays, so moving the mouse around never creates new nodes.
+ */
+public class ImageButton extends Button {
+
+    private final ImageView view = new ImageView();
+    private Sprite normal;
+    private Sprite hover;
+
+    /**
+     * Creates a button with a normal image and a hover image.
+     *
+     * @param normal the sprite shown when the mouse is not over the button
+     * @param hover the sprite shown when the mouse is over the button
+     */
+    public ImageButton(Sprite normal, Sprite hover) {
+        this.normal = normal;
+        this.hover = hover;
+        setGraphic(view);
+
+        // Swap the image whenever the hover state changes
+        hoverProperty().addListener((observable, oldValue, newValue) -> refresh());
+        refresh();
+    }
+
+    /**
+     * Replaces both images, for buttons whose look depends on a state such as mute or game mode.
+     *
+     * @param normal the sprite shown when the mouse is not over the button
+     * @param hover the sprite shown when the mouse is over the button
+     */
+    public void setImages(Sprite normal, Sprite hover) {
+        this.normal = normal;
+        this.hover = hover;
+        refresh();
+    }
+
+    private void refresh() {
+        (isHover() ? hover : normal).applyTo(view);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.portfilioproject;
+
+import com.example.portfilioproject.metrics.Metrics;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Pane;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shows the game's screens in the center of the main window, building each screen only once.
+ *
+ * Every screen is registered with a builder, which runs the first time the screen is shown, and a
+ * reset action, which runs every time it is shown to put it back into its starting state. Moving
+ * between rounds therefore only updates existing nodes instead of building new ones.
+ *
+ * For comparing against the old behaviour, -Dscreens.rebuild=true builds every screen again each
+ * time it is shown, and -Dscreens.report=true prints how long each transition took and how many
+ * bytes it allocated. With metrics on, every transition time is also recorded in {@link Metrics}.
+ */
+public class ScreenManager {
+
+    /**
+     * The screens that can be shown in the center of the window.
+     */
+    public enum Screen {
+        TITLE, GAME, WINNER
+    }
+
+    private static final boolean REBUILD = Boolean.getBoolean("screens.rebuild");
+    private static final boolean REPORT = Boolean.getBoolean("screens.report");
+
+    private final BorderPane host;
+    private final Map<Screen, Supplier<Pane>> builders = new EnumMap<>(Screen.class);
+    private final Map<Screen, Runnable> resets = new EnumMap<>(Screen.class);
+    private final Map<Screen, Pane> screens = new EnumMap<>(Screen.class);
+
+    /**
+     * @param host the pane whose center shows the current screen
+     */
+    public ScreenManager(BorderPane host) {
+        this.host = host;
+    }
+
+    /**
+     * Registers how to build a screen and how to reset it each time it is shown.
+     *
+     * @param screen the screen
+     * @param builder creates the screen's pane
+     * @param reset puts the screen back into its starting state, or null if it has no state
+     */
+    public void register(Screen screen, Supplier<Pane> builder, Runnable reset) {
+        builders.put(screen, builder);
+        if (reset != null) {
+            resets.put(screen, reset);
+        }
+    }
+
+    /**
+     * Shows a screen, building it first if it has not been built yet.
+     *
+     * @param screen the screen to show
+     */
+    public void show(Screen screen) {
+        long start = System.nanoTime();
+        long allocated = REPORT ? Metrics.allocatedBytes() : 0;
+
+        Pane pane = REBUILD ? null : screens.get(screen);
+        boolean built = pane == null;
+        if (built) {
+            pane = builders.get(screen).get();
+            screens.put(screen, pane);
+        }
+        Runnable reset = resets.get(screen);
+        if (reset != null) {
+            reset.run();
+        }
+        host.setCenter(pane);
+
+        long elapsed = System.nanoTime() - start;
+        Metrics.recordScreenTransition(screen.name(), built, elapsed);
+        if (REPORT) {
+            System.out.printf("%s screen %s in %.2f ms, %,d bytes allocated%n", screen, built ? "built" : "reused",
+                    elapsed / 1_000_000.0, Metrics.allocatedBytes() - allocated);
+        }
+    }
+
+    /**
+     * Throws away a built screen so it is built again the next time it is shown,
+     * for example when the board size changes.
+     *
+     * @param screen the screen to rebuild
+     */
+    public void invalidate(Screen screen) {
+        screens.remove(screen);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.portfilioproject;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * One image inside a texture atlas: the shared atlas image and the area of it to show.
+ * Every sprite in an atlas shares the same decoded image (and GPU texture).
+ *
+ * @param image the atlas image
+ * @param viewport the area of the atlas that holds this sprite
+ */
+public record Sprite(Image image, Rectangle2D viewport) {
+
+    /**
+     * @return a new image view showing this sprite
+     */
+    public ImageView createView() {
+        ImageView view = new ImageView();
+        applyTo(view);
+        return view;
+    }
+
+    /**
+     * Shows this sprite in an existing image view.
+     *
+     * @param view the image view to update
+     */
+    public void applyTo(ImageView view) {
+        view.setImage(image);
+        view.setViewport(viewport);
+    }
+
+    /**
+     * @return the width of the sprite in pixels
+     */
+    public double getWidth() {
+        return viewport.getWidth();
+    }
+
+    /**
+     * @return the height of the sprite in pixels
+     */
+    public double getHeight() {
+        return viewport.getHeight();
+    }
+}
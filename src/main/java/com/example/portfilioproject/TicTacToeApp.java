@@ -1,8 +1,32 @@
 package com.example.portfilioproject;
 
+import com.example.portfilioproject.ScreenManager.Screen;
+import com.example.portfilioproject.ai.CreatorPlayer;
+import com.example.portfilioproject.ai.Difficulty;
+import com.example.portfilioproject.ai.MonteCarloPlayer;
+import com.example.portfilioproject.ai.OpeningBook;
+import com.example.portfilioproject.ai.PerfectPlayer;
+import com.example.portfilioproject.ai.Player;
+import com.example.portfilioproject.data.GameArchive;
+import com.example.portfilioproject.data.GameRecord;
+import com.example.portfilioproject.data.ScoreLogImporter;
+import com.example.portfilioproject.data.ScoreStore;
+import com.example.portfilioproject.data.ScoreTotals;
+import com.example.portfilioproject.data.ScoreWriter;
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.engine.GameVariant;
+import com.example.portfilioproject.engine.GridBoard;
+import com.example.portfilioproject.metrics.Metrics;
+import com.example.portfilioproject.stats.GameStatistics;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -13,19 +37,21 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import javafx.util.Duration;
 
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 
 /**
  * Main point for the Tic-Tac-Toe application.
@@ -36,19 +62,48 @@ public class TicTacToeApp extends Application {
 
     // Main UI components and state trackers
     private BorderPane mainPane;
+    private ScreenManager screens;
+    private final BooleanProperty isStartHovered = new SimpleBooleanProperty(false);
+    private ImageView winnerBackground;
+    private ImageView winnerMessage;
     private Boolean preview = false;
     private char currentPlayer = 'X';
-    private boolean[][] isClicked = new boolean[3][3];
-    private Button[][] gridButtons = new Button[3][3];
-    private static int xWinCount = 0;
-    private static int oWinCount = 0;
+    private ImageView[][] gridMarks; // One reused mark image per cell
+    private GridBoard board = GameVariant.CLASSIC.newBoard();
+    private static final double GRID_SIZE = 465;
+    private static final GameStatistics statistics = new GameStatistics(); // Scores and stats, safe to update from any thread
+    private static ScoreWriter scoreWriter; // Writes the score history and score log in the background
+    private static boolean scoresResetSinceLaunch = false; // Stops the saved scores being restored over a reset
+    private static final String SCORE_STORE_FILE = "scores.dat";
+    private static final String SCORE_LOG_FILE = "scores_log.txt";
+    private static GameArchive gameArchive; // Every game's moves, only used on the score writer thread
+    private static final String GAME_ARCHIVE_FILE = "games.dat";
     private static Label xWinsText = new Label("0");
     private static Label oWinsText = new Label("0");
+    private static final Duration SCORE_REFRESH = Duration.millis(200); // How often the menu's scores are updated while it is open
+    private static Timeline scoreRefresh;
+    private static long shownXWins = -1; // Scores on the menu labels, to skip updates that change nothing
+    private static long shownOWins = -1;
     private static Stage menuStage;
-    private MediaPlayer bgmPlayer;
-    private MediaPlayer fastBgmPlayer;
+    private final AudioManager music = new AudioManager("/images/bkgMusic", "/images/bkgMusicSpeed");
+    private static final Player creatorPlayer = new CreatorPlayer();
+    private static Player perfectPlayer = new PerfectPlayer();
+    private static MonteCarloPlayer monteCarloPlayer;
+    private static final long MCTS_TIME_LIMIT_MILLIS = 750; // Thinking time per move on large boards
+    private static final long MIN_THINKING_MILLIS = 350; // Shortest time the computer appears to think (0 to disable)
+    private final ExecutorService aiExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private Future<?> aiTask;
+    private boolean aiThinking = false; // Locks the board while the computer is choosing
+    private int gameId = 0; // Changes every game so late computer moves can be ignored
+    private GameRecord.Opponent roundOpponent = GameRecord.Opponent.PLAYER; // Who plays 'O' this round, fixed when the round starts
+    private long turnStart = 0; // When the last move was played, until the board has been laid out with it (metrics only)
+    private long roundAllocationStart; // Bytes the JavaFX thread had allocated when the round started (metrics only)
     private static BooleanProperty vsComputer = new SimpleBooleanProperty(false); // Game Mode State
+    private static ObjectProperty<Difficulty> difficulty = new SimpleObjectProperty<>(Difficulty.CREATOR); // Computer Difficulty
+    private static ObjectProperty<GameVariant> variant = new SimpleObjectProperty<>(GameVariant.CLASSIC); // Board Size
     private BooleanProperty isMuted = new SimpleBooleanProperty(false); // Sound State
+    private static final boolean SEQUENTIAL_ASSETS = Boolean.getBoolean("assets.sequential"); // Load every asset up front, one at a time
+    private static final boolean REPORT_ASSET_TIMES = Boolean.getBoolean("assets.report"); // Print how long each asset took to load
 
 
     public static void main(String[] args) {
@@ -57,25 +112,31 @@ public class TicTacToeApp extends Application {
 
     @Override
     public void start(Stage primaryStage) {
-        // Load required assets at startup
-        FileAssets.loadFiles();
-
-        // Load regular music
-        String bgmPath = Objects.requireNonNull(getClass().getResource("/images/bkgMusic.wav")).toExternalForm();
-        Media bgm = new Media(bgmPath);
-        bgmPlayer = new MediaPlayer(bgm);
-        bgmPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-        bgmPlayer.play();
-
-        // Load fast music
-        String fastBgmPath = Objects.requireNonNull(getClass().getResource("/images/bkgMusicSpeed.wav")).toExternalForm();
-        Media fastBgm = new Media(fastBgmPath);
-        fastBgmPlayer = new MediaPlayer(fastBgm);
-        fastBgmPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-        fastBgmPlayer.stop();
+        // Load the title screen assets now and everything else in the background
+        long launchStart = System.nanoTime();
+        if (SEQUENTIAL_ASSETS) {
+            FileAssets.loadFiles();
+        } else {
+            FileAssets.loadTitleAssets();
+            FileAssets.loadRemainingAssets();
+        }
+
+        // Load the precomputed best moves for the perfect computer
+        try {
+            perfectPlayer = new PerfectPlayer(OpeningBook.load());
+        } catch (IOException e) {
+            // The perfect computer falls back to solving positions itself
+            System.err.println("Error loading opening book: " + e.getMessage());
+        }
+
+        // Restore the scores from the score history, in the background
+        startScoreWriter();
 
         // Set scene to main screen
         Scene scene = new Scene(getMainPane(primaryStage), 675, 800);
+        if (Metrics.ENABLED) {
+            scene.addPostLayoutPulseListener(this::finishTurnMeasurement);
+        }
         primaryStage.setScene(scene);
         primaryStage.setTitle("Title Screen");
         primaryStage.initStyle(StageStyle.UNDECORATED);
@@ -83,12 +144,35 @@ public class TicTacToeApp extends Application {
         primaryStage.setWidth(675);
         primaryStage.getIcons().add(FileAssets.LOGO);
         primaryStage.show();
+        // Counted as a transition from launch to the title screen, when metrics are on
+        Metrics.recordScreenTransition("LAUNCH", true, System.nanoTime() - launchStart);
+
+        // Start the music once the title screen is up (the music files are several megabytes)
+        Platform.runLater(() -> music.setMuted(isMuted.get()));
+
+        // Release the music while the window is minimized
+        primaryStage.iconifiedProperty().addListener((observable, oldValue, newValue) -> {
+            music.setMuted(newValue || isMuted.get());
+        });
+        if (REPORT_ASSET_TIMES) {
+            CompletableFuture.runAsync(FileAssets::awaitAssets).thenRun(FileAssets::printLoadTimes);
+        }
 
         // Close the menuStage when primaryStage closes
         primaryStage.setOnCloseRequest(event -> {
             if (menuStage != null && menuStage.isShowing()) {
                 menuStage.close();
             }
+            // Finish writing the scores and games, then stop the music, any computer move in progress and the computer's worker threads
+            abandonUnfinishedGame();
+            scoreWriter.submit(TicTacToeApp::closeGameArchive);
+            scoreWriter.close();
+            music.release();
+            cancelComputerMove();
+            aiExecutor.shutdownNow();
+            if (monteCarloPlayer != null) {
+                monteCarloPlayer.close();
+            }
         });
     }
 
@@ -114,6 +198,12 @@ public class TicTacToeApp extends Application {
 
         mainPane = new BorderPane();
 
+        // Each screen is built the first time it is shown and reset every time after that
+        screens = new ScreenManager(mainPane);
+        screens.register(Screen.TITLE, () -> getTitlePane(primaryStage), () -> isStartHovered.set(false));
+        screens.register(Screen.GAME, () -> getGamePane(primaryStage), this::resetGamePane);
+        screens.register(Screen.WINNER, () -> getWinnerPane(primaryStage), null);
+
         // Create draggable title bar with buttons (mute, minimize, close)
         HBox topBar = new HBox();
         topBar.setAlignment(Pos.TOP_RIGHT);
@@ -121,46 +211,31 @@ public class TicTacToeApp extends Application {
         topBar.setPadding(new Insets(18, 32, 10, 10));
 
         // Button Close
-        Button btnClose = new Button();
-        btnClose.setGraphic(new ImageView(FileAssets.CLOSE));
+        ImageButton btnClose = new ImageButton(FileAssets.CLOSE, FileAssets.CLOSE_HOVER);
         btnClose.setStyle("-fx-background-color: transparent; -fx-padding: 0");
         // -Action effect
         btnClose.setOnAction(e -> primaryStage.close());
-        // -Hover effect
-        btnClose.setOnMouseEntered(e -> btnClose.setGraphic(new ImageView(FileAssets.CLOSE_HOVER)));
-        btnClose.setOnMouseExited(e -> btnClose.setGraphic(new ImageView(FileAssets.CLOSE)));
 
         // Button Minimize
-        Button btnMin = new Button();
-        btnMin.setGraphic(new ImageView(FileAssets.MINIMIZE));
+        ImageButton btnMin = new ImageButton(FileAssets.MINIMIZE, FileAssets.MINIMIZE_HOVER);
         btnMin.setStyle("-fx-background-color: transparent; -fx-padding: 0");
         // -Action effect
         btnMin.setOnAction(e -> {
             primaryStage.setIconified(true);
             isMuted.set(true);
         });
-        // -Hover effect
-        btnMin.setOnMouseEntered(e -> btnMin.setGraphic(new ImageView(FileAssets.MINIMIZE_HOVER)));
-        btnMin.setOnMouseExited(e -> btnMin.setGraphic(new ImageView(FileAssets.MINIMIZE)));
 
         // Button Mute
-        Button btnMute = new Button();
-        btnMute.setGraphic(new ImageView(FileAssets.MUTE));
+        // -Hover effect shows the opposite of the current state
+        ImageButton btnMute = new ImageButton(FileAssets.MUTE, FileAssets.MUTE_HOVER);
         btnMute.setStyle("-fx-background-color: transparent; -fx-padding: 0");
         // -Action effect
         btnMute.setOnAction(e -> isMuted.set(!isMuted.get()));
-        // -Hover effect
-        btnMute.setOnMouseEntered(e -> btnMute.setGraphic(new ImageView(isMuted.get() ? FileAssets.MUTE : FileAssets.MUTE_HOVER)));
-        btnMute.setOnMouseExited(e -> btnMute.setGraphic(new ImageView(isMuted.get() ? FileAssets.MUTE_HOVER : FileAssets.MUTE)));
 
         // Sync icon and music when mute state changes
         isMuted.addListener((observable, oldValue, newValue) -> {
-            btnMute.setGraphic(new ImageView(newValue ? FileAssets.MUTE_HOVER : FileAssets.MUTE));
-            if(isMuted.get()) {
-                bgmPlayer.stop();
-            } else {
-                bgmPlayer.play();
-            }
+            btnMute.setImages(newValue ? FileAssets.MUTE_HOVER : FileAssets.MUTE, newValue ? FileAssets.MUTE : FileAssets.MUTE_HOVER);
+            music.setMuted(newValue);
         });
 
 
@@ -179,7 +254,7 @@ public class TicTacToeApp extends Application {
 
         // Assemble main layout
         mainPane.setTop(topBar);
-        mainPane.setCenter(getTitlePane(primaryStage));
+        screens.show(Screen.TITLE);
         return new StackPane(background, mainPane);
     }
 
@@ -195,40 +270,25 @@ public class TicTacToeApp extends Application {
         ImageView clouds = new ImageView(FileAssets.BACKGROUND_CLOUDS);
 
         // Menu Button
-        Button btnMenu = new Button();
-        btnMenu.setGraphic(new ImageView(FileAssets.MENU));
+        ImageButton btnMenu = new ImageButton(FileAssets.MENU, FileAssets.MENU_HOVER);
         btnMenu.setStyle("-fx-background-color: transparent; -fx-padding: 0");
         // -Action effects
         btnMenu.setOnAction(e -> {
             getMenu(stage);
         });
-        // -Hover effects
-        btnMenu.setOnMouseEntered(e -> {btnMenu.setGraphic(new ImageView(FileAssets.MENU_HOVER));});
-        btnMenu.setOnMouseExited(e -> {btnMenu.setGraphic(new ImageView(FileAssets.MENU));});
 
         // Start Button
-        Button btnStart = new Button();
-        btnStart.setGraphic(new ImageView(FileAssets.START));
+        ImageButton btnStart = new ImageButton(FileAssets.START, FileAssets.START_HOVER);
         btnStart.setStyle("-fx-background-color: transparent; -fx-padding: 0");
 
         // Start button hover effects (including background transition and music change)
-        BooleanProperty isStartHovered = new SimpleBooleanProperty(false);
         isStartHovered.addListener((observable, oldValue, newValue) -> {
             if(isStartHovered.get()) {
                 clouds.setImage(FileAssets.BACKGROUND_CLOUDS_HOVER);
-                btnStart.setGraphic(new ImageView(FileAssets.START_HOVER));
-                if(!isMuted.get()) {
-                    bgmPlayer.stop();
-                    fastBgmPlayer.play();
-                }
-
+                music.setFast(true);
             } else {
                 clouds.setImage(FileAssets.BACKGROUND_CLOUDS);
-                btnStart.setGraphic(new ImageView(FileAssets.START));
-                if(!isMuted.get()) {
-                    fastBgmPlayer.stop();
-                    bgmPlayer.play();
-                }
+                music.setFast(false);
             }
         });
 
@@ -238,7 +298,7 @@ public class TicTacToeApp extends Application {
 
         // When start button is clicked, change the center of the screen to the game play
         btnStart.setOnAction(e -> {
-            mainPane.setCenter(getGamePane(stage));
+            startGame();
         });
 
         // VBox to hold the start button in the center
@@ -256,47 +316,102 @@ public class TicTacToeApp extends Application {
         return centerLayering;
     }
 
+    /**
+     * Starts a new round on the game screen. The game screen is only built again when
+     * the board size has changed since the last round.
+     */
+    private void startGame() {
+        // Keep the moves of a game that was left part way through
+        abandonUnfinishedGame();
+
+        // Make a new board if the variant changed
+        GameVariant selected = variant.get();
+        if (board.size() != selected.getSize() || board.winLength() != selected.getWinLength()) {
+            board = selected.newBoard();
+            screens.invalidate(Screen.GAME);
+        }
+        FileAssets.awaitAssets();
+        screens.show(Screen.GAME);
+    }
+
+    /**
+     * Clears the board and the marks on the grid, and sets the player to X.
+     */
+    private void resetGamePane() {
+        if (Metrics.ENABLED) {
+            roundAllocationStart = Metrics.allocatedBytes();
+        }
+        board.reset();
+        cancelComputerMove();
+        // Menu changes made during the round take effect from the next one, so a whole game counts for one mode
+        roundOpponent = selectedOpponent();
+        currentPlayer = 'X';
+        preview = false;
+        for (ImageView[] row : gridMarks) {
+            for (ImageView mark : row) {
+                mark.setImage(null);
+            }
+        }
+    }
+
     /**
      * Creates and returns a pane representing the game board for a Tic-Tac-Toe application.
      *
-     * The returned pane is a stacked layout that includes a blurred background, grid lines image,
-     * and a 3x3 grid of buttons. Each button in the grid represents a cell of the Tic-Tac-Toe
-     * board and supports interactive gameplay features such as input actions and hover previews.
+     * The returned pane is a stacked layout that includes a blurred background, grid lines,
+     * and an N x N grid of buttons sized for the current board. Each button in the grid
+     * represents a cell of the board and supports interactive gameplay features such as input
+     * actions and hover previews. The pane is kept and reused for every round on the same board size.
      *
      * @return a StackPane containing the game board elements, including the grid and background
      */
     private Pane getGamePane(Stage stage) {
-        // Create an empty starting board and set the player to X
-        int[][] board = resetBoard();
-        currentPlayer = 'X';
+        // Work out the cell size for the current board
+        int size = board.size();
+        double cellSize = GRID_SIZE / size;
+        boolean classic = size == GameVariant.CLASSIC.getSize();
+        gridMarks = new ImageView[size][size];
 
         // Create grid to host buttons
         GridPane grid = new GridPane();
-        grid.setPrefSize(465, 465);
+        grid.setPrefSize(GRID_SIZE, GRID_SIZE);
         grid.setAlignment(Pos.CENTER);
 
         // Setup grid constraints and add buttons
-        for(int i = 0; i < 3; i++) {
-            grid.getColumnConstraints().add(new ColumnConstraints(155));
-            grid.getRowConstraints().add(new RowConstraints(155));
+        for(int i = 0; i < size; i++) {
+            grid.getColumnConstraints().add(new ColumnConstraints(cellSize));
+            grid.getRowConstraints().add(new RowConstraints(cellSize));
 
-            for(int j = 0; j < 3; j++) {
+            for(int j = 0; j < size; j++) {
                 Button gridBtn = new Button();
-                gridBtn.setMinSize(155, 155);
-                gridBtn.setStyle("-fx-background-color: transparent; -fx-padding: 0");
+                gridBtn.setMinSize(cellSize, cellSize);
+                gridBtn.setMaxSize(cellSize, cellSize);
+                // The grid lines image only fits 3x3, so larger boards outline each cell instead
+                gridBtn.setStyle(classic
+                        ? "-fx-background-color: transparent; -fx-padding: 0"
+                        : "-fx-background-color: transparent; -fx-padding: 0; -fx-border-color: #5a5a6680; -fx-border-width: 0.5");
                 int row = i;
                 int col = j;
+                int cell = board.cell(row, col);
 
-                gridButtons[i][j] = gridBtn;
+                // Each cell keeps one image view for its whole life and only swaps the X / O image
+                ImageView mark = new ImageView();
+                if (!classic) {
+                    mark.setFitWidth(cellSize);
+                    mark.setPreserveRatio(true);
+                }
+                gridBtn.setGraphic(mark);
+                gridMarks[i][j] = mark;
 
                 // When grid button is clicked, call turns method
                 gridBtn.setOnAction(e -> {
-                    if(!isClicked[row][col]) {
-                        turns(row, col, gridBtn, currentPlayer, board, stage);
+                    if(board.isEmpty(cell) && !board.isGameOver() && !aiThinking) {
+                        turns(row, col, mark, currentPlayer, stage);
                         // If X just went and the VS Computer mode is on, call the computer's turn
-                        if(vsComputer.get() && currentPlayer == 'X') {
-                            makeCreatorAIMove(board, stage);
-                        } else if (!vsComputer.get()) { // else change to O's turn
+                        if(board.isGameOver()) {
+                            return;
+                        } else if(roundOpponent != GameRecord.Opponent.PLAYER && currentPlayer == 'X') {
+                            makeCreatorAIMove(stage);
+                        } else if (roundOpponent == GameRecord.Opponent.PLAYER) { // else change to O's turn
                             currentPlayer = currentPlayer == 'X' ? 'O' : 'X';
                         }
                     }
@@ -304,14 +419,14 @@ public class TicTacToeApp extends Application {
 
                 // Preview move on hover
                 gridBtn.setOnMouseEntered(e -> {
-                    if(gridBtn.getGraphic() == null && !isClicked[row][col]) {
-                        gridBtn.setGraphic(new ImageView(currentPlayer == 'X' ? FileAssets.X : FileAssets.O));
+                    if(mark.getImage() == null && board.isEmpty(cell) && !aiThinking) {
+                        getMarkSprite(currentPlayer).applyTo(mark);
                         preview = true;
                     }
                 });
                 gridBtn.setOnMouseExited(e -> {
-                    if(preview && !isClicked[row][col]) {
-                        gridBtn.setGraphic(null);
+                    if(preview && board.isEmpty(cell)) {
+                        mark.setImage(null);
                         preview = false;
                     }
                 });
@@ -320,13 +435,26 @@ public class TicTacToeApp extends Application {
         }
 
         // Stack all elements
-        ImageView lines = new ImageView(FileAssets.GRID);
         ImageView bkgCloud = new ImageView(FileAssets.BKG_CLOUDS_BLURRED);
         StackPane gameLayering = new StackPane();
-        gameLayering.getChildren().addAll(bkgCloud, lines, grid);
+        if (classic) {
+            gameLayering.getChildren().addAll(bkgCloud, new ImageView(FileAssets.GRID), grid);
+        } else {
+            gameLayering.getChildren().addAll(bkgCloud, grid);
+        }
         return gameLayering;
     }
 
+    /**
+     * Gets the shared X or O sprite for a player.
+     *
+     * @param player the player's symbol ('X' or 'O')
+     * @return the sprite for the player's mark
+     */
+    private static Sprite getMarkSprite(char player) {
+        return player == 'X' ? FileAssets.X : FileAssets.O;
+    }
+
 
 
     /**
@@ -337,210 +465,205 @@ public class TicTacToeApp extends Application {
      *
      * @param row the row index of the grid button that was clicked
      * @param col the column index of the grid button that was clicked
-     * @param gridBtn the button on the grid that was clicked by the player
+     * @param mark the image view of the grid button that was clicked by the player
      * @param currentPlayer the current player's symbol ('X' or 'O')
-     * @param board the 2D integer array representing the current state of the game board
      */
-    private void turns(int row, int col, Button gridBtn, char currentPlayer, int[][] board, Stage stage){
+    private void turns(int row, int col, ImageView mark, char currentPlayer, Stage stage){
+        if (Metrics.ENABLED && turnStart == 0) {
+            turnStart = System.nanoTime();
+        }
+
         // Set the clicked grid to the current player's icon
-        gridBtn.setGraphic(new ImageView(currentPlayer == 'X' ? FileAssets.X : FileAssets.O));
-        isClicked[row][col] = true;
-        board[row][col] = (currentPlayer == 'X' ? 0 : 1);
+        getMarkSprite(currentPlayer).applyTo(mark);
+        int player = (currentPlayer == 'X' ? BitBoard.X : BitBoard.O);
+        boolean won = board.play(board.cell(row, col), player);
+        statistics.recordMove(roundOpponent);
 
         // Check for a winner or tie
-        if(checkWin(row, col, currentPlayer, board)) {
-            mainPane.setCenter(currentPlayer == 'X' ? getXWinsPane(stage) : getOWinsPane(stage));
-        } else if (isBoardFull(board)) {
-            mainPane.setCenter(getTiePane(stage));
+        if(won) {
+            if (currentPlayer == 'X') {
+                endGame(GameRecord.Result.X_WINS);
+                showXWins();
+            } else {
+                endGame(GameRecord.Result.O_WINS);
+                showOWins();
+            }
+        } else if (board.isFull()) {
+            endGame(GameRecord.Result.DRAW);
+            showTie();
         }
     }
 
     /**
-     * Finds and returns a random empty spot on the board.
-     * If no spots are available, returns null.
-     *
-     * @param board the current game board
-     * @return an array with the row and column of the random move, or null if board is full
+     * Records how long the last move took to reach the screen. Runs after every pulse has laid out the scene.
      */
-    private int[] getRandomMove(int[][] board) {
-        // Create a list to store all empty positions
-        List<int[]> available = new ArrayList<>();
-
-        // Check every cell on the board
-        for (int row = 0; row < 3; row++) {
-            for (int col = 0; col < 3; col++) {
-                // If the spot is empty
-                if (board[row][col] == -1) {
-                    // Add this position to the list
-                    available.add(new int[]{row, col});
-                }
-            }
+    private void finishTurnMeasurement() {
+        if (turnStart != 0) {
+            Metrics.recordTurn(System.nanoTime() - turnStart);
+            turnStart = 0;
         }
-        // If there are no empty spots, return null
-        if (available.isEmpty()) return null;
-
-        // Pick a random index from the list
-        int randomIndex = (int) (Math.random() * available.size());
-
-        // Return the random position
-        return available.get(randomIndex);
     }
 
     /**
      * Executes the computer move for Player O
-     * This method retrieves the computer's chosen move,
-     * using the same strategyI personally use when playing tic-tac-toe.
+     * This method retrieves the computer's chosen move, either
+     * using the same strategy I personally use when playing tic-tac-toe,
+     * or the perfect solver when the round is against the perfect computer.
      *
-     * It performs the move on the board, updates the UI button,
-     * and switches the turn back to Player X.
+     * The move is chosen on a background virtual thread so the window keeps responding, and the board
+     * is locked until the move comes back. The move is then played on the JavaFX thread, which updates
+     * the UI button and switches the turn back to Player X. If the game is restarted in the meantime,
+     * the move is thrown away. If the strategy fails, a random legal move is played instead, so the
+     * game never stalls on the computer's turn.
      *
-     * @param board the current game board state as a 2D integer array
      * @param stage the current stage
      */
-    private void makeCreatorAIMove(int[][] board, Stage stage) {
-        // Get the move from the strategy
-        int[] move = getCreatorAIMove(board);
-        if (move != null) {
-            int row = move[0];
-            int col = move[1];
-            Button aiBtn = gridButtons[row][col];
-
-            // Preform the move
-            turns(row, col, aiBtn, 'O', board, stage);
-
-            // Switch back to player X
-            currentPlayer = 'X';
-        }
+    private void makeCreatorAIMove(Stage stage) {
+        // Lock the board and hand the computer its own copy of it
+        aiThinking = true;
+        int thisGame = gameId;
+        GridBoard snapshot = new GridBoard(board);
+        GameRecord.Opponent opponent = roundOpponent;
+        Difficulty level = opponent == GameRecord.Opponent.PERFECT ? Difficulty.PERFECT : Difficulty.CREATOR;
+
+        aiTask = aiExecutor.submit(() -> {
+            long start = System.nanoTime();
+            int[] move;
+            try {
+                move = getComputerMove(snapshot, level);
+                long thinkNanos = System.nanoTime() - start;
+                statistics.recordThinkTime(opponent, thinkNanos);
+                Metrics.recordAiMove(opponent.name(), thinkNanos);
+
+                // Make the computer look like it is thinking for a moment
+                long remaining = MIN_THINKING_MILLIS - (System.nanoTime() - start) / 1_000_000;
+                if (remaining > 0) {
+                    Thread.sleep(remaining);
+                }
+            } catch (InterruptedException e) {
+                // Cancelled by a restart or by closing the window
+                return;
+            } catch (RuntimeException e) {
+                // Keep the game going with any legal move rather than leaving it stuck on the computer's turn
+                System.err.println("Error choosing computer move, playing a random move instead: " + e);
+                move = getRandomMove(snapshot);
+            }
+
+            // Play the move back on the JavaFX thread
+            int[] chosen = move;
+            Platform.runLater(() -> {
+                if (thisGame != gameId) return;
+                aiThinking = false;
+                if (chosen != null) {
+                    int row = chosen[0];
+                    int col = chosen[1];
+                    ImageView aiMark = gridMarks[row][col];
+
+                    // Preform the move
+                    turns(row, col, aiMark, 'O', stage);
+
+                    // Switch back to player X
+                    currentPlayer = 'X';
+                }
+            });
+        });
     }
 
     /**
-     * Determines the best move for the computer based on my personal strategy, for a human like effect.
-     * Random numbers are added to add human like flaws.
-     *
-     * The strategy prioritizes winning, blocking, then positioning
-     * (center, corners, sides), with random chances that some steps will be skipped.
+     * Chooses the computer's move with the strategy for the board size and difficulty.
+     * This runs off the JavaFX thread, so it only works on its own copy of the board.
      *
-     * @param board the current game board state as a 2D integer array
+     * @param board a copy of the current game board
+     * @param level the difficulty when the move was requested
      * @return an array with the row and column of the chosen move, or null if no moves can be made
      */
-    private int[] getCreatorAIMove(int[][] board) {
-
-        // Make a random move (10% chance)
-        if (Math.random() < 0.10) {
-            return getRandomMove(board);
-        }
-
-        // Check if computer can win (85% chance)
-        if(Math.random() < 0.85) {
-            int[] winMove = findBestMove(board, 1); // 1 = O
-            if (winMove != null) return winMove;
-        }
-
-        // Block X if they can win next turn (80% chance)
-        if(Math.random() < 0.80) {
-            int[] blockMove = findBestMove(board, 0); // 0 = X
-            if (blockMove != null) return blockMove;
-        }
-
-        // Take the center if it is available (70% chance)
-        if(Math.random() < 0.7) {
-            if (board[1][1] == -1) return new int[]{1, 1};
+    private int[] getComputerMove(GridBoard board, Difficulty level) {
+        if (board.size() == GameVariant.CLASSIC.getSize() && board.winLength() == GameVariant.CLASSIC.getWinLength()) {
+            BitBoard classicBoard = new BitBoard(board.mask(BitBoard.X), board.mask(BitBoard.O));
+            Player player = level == Difficulty.PERFECT ? perfectPlayer : creatorPlayer;
+            int cell = player.chooseMove(classicBoard, ThreadLocalRandom.current());
+            return cell < 0 ? null : new int[]{BitBoard.row(cell), BitBoard.col(cell)};
         }
+        return getMonteCarloMove(board);
+    }
 
-        // Try to take corners
-        int[][] corners = {{0,0}, {0,2}, {2,0}, {2,2}};
-        for (int[] position : corners) {
-            if (board[position[0]][position[1]] == -1) return position;
+    /**
+     * Picks an empty cell at random, for when the computer's strategy fails.
+     *
+     * @param board a copy of the current game board
+     * @return an array with the row and column of the chosen move, or null if no moves can be made
+     */
+    private static int[] getRandomMove(GridBoard board) {
+        int chosen = -1;
+        int seen = 0;
+        for (int cell = 0; cell < board.cellCount(); cell++) {
+            // Keep each empty cell with a chance of 1 in the number seen so far, so every one is equally likely
+            if (board.isEmpty(cell) && ThreadLocalRandom.current().nextInt(++seen) == 0) {
+                chosen = cell;
+            }
         }
+        return chosen < 0 ? null : new int[]{chosen / board.size(), chosen % board.size()};
+    }
 
-        // Take sides if there is nothing else
-        int[][] sides = {{0,1}, {1,0}, {1,2}, {2,1}};
-        for (int[] position : sides) {
-            if (board[position[0]][position[1]] == -1) return position;
+    /**
+     * Stops any computer move that is still being chosen and unlocks the board.
+     * Any move that still arrives afterwards is ignored.
+     */
+    private void cancelComputerMove() {
+        gameId++;
+        aiThinking = false;
+        if (aiTask != null) {
+            aiTask.cancel(true);
+            aiTask = null;
         }
-
-        // No moves are left
-        return null;
     }
 
     /**
-     * Checks the board to see if a player can win in the next turn.
-     * Places the player's symbol in each empty cell and checks for a win.
+     * Gets the computer's move on boards larger than 3x3 by running a Monte Carlo Tree Search on
+     * every core for a fixed amount of time. How long it took is recorded with the other computer
+     * moves when metrics are on.
      *
-     * @param board the current game board state as a 2D integer array
-     * @param player the player to check (0 for 'X', 1 for 'O')
-     * @return an array with the winning move's row and column, or null if no winning move found
+     * @param board the current game board
+     * @return an array with the row and column of the chosen move, or null if no moves can be made
      */
-    private int[] findBestMove(int[][] board, int player) {
-        for (int row = 0; row < 3; row++) {
-            for (int col = 0; col < 3; col++) {
-                if (board[row][col] == -1) {
-                    // Simulate move
-                    board[row][col] = player;
-                    // Check if this move wins the game
-                    if (checkWin(row, col, player == 0 ? 'X' : 'O', board)) {
-                        // Undo simulation
-                        board[row][col] = -1;
-                        return new int[]{row, col};
-                    }
-                    // Undo move if not winning
-                    board[row][col] = -1;
-                }
-            }
-        }
-        // No winning move found
-        return null;
+    private int[] getMonteCarloMove(GridBoard board) {
+        MonteCarloPlayer player = getMonteCarloPlayer();
+        int cell = player.chooseMove(board);
+        return cell < 0 ? null : new int[]{cell / board.size(), cell % board.size()};
     }
 
     /**
-     * Checks if the current player has achieved a winning condition in the Tic-Tac-Toe game.
-     *
-     * This method evaluates rows, columns, and diagonals to determine if three consecutive
-     * marks of the current player ('X' or 'O') are aligned in any direction. A win condition
-     * will immediately return true, while the absence of a win condition will return false.
+     * Creates the large board computer the first time it is needed.
      *
-     * @param row the row index of the cell most recently selected by the player
-     * @param col the column index of the cell most recently selected by the player
-     * @param currentPlayer the symbol of the current player ('X' or 'O')
-     * @param board a 2D array representing the current game board, where integer values
-     *        are used to differentiate between player moves
-     * @return true if the current player wins, false otherwise
+     * @return the shared Monte Carlo player
      */
-    private boolean checkWin(int row, int col, char currentPlayer, int[][] board) {
-        // Check to see if the current player has won
-        int player = (currentPlayer == 'X' ? 0 : 1);
-        return (board[0][0] == player && board[0][1] == player && board[0][2] == player) ||
-                (board[1][0] == player && board[1][1] == player && board[1][2] == player) ||
-                (board[2][0] == player && board[2][1] == player && board[2][2] == player) ||
-                (board[0][0] == player && board[1][1] == player && board[2][2] == player) ||
-                (board[0][2] == player && board[1][1] == player && board[2][0] == player) ||
-                (board[0][0] == player && board[1][0] == player && board[2][0] == player) ||
-                (board[0][1] == player && board[1][1] == player && board[2][1] == player) ||
-                (board[0][2] == player && board[1][2] == player && board[2][2] == player);
+    private static synchronized MonteCarloPlayer getMonteCarloPlayer() {
+        if (monteCarloPlayer == null) {
+            monteCarloPlayer = new MonteCarloPlayer(MCTS_TIME_LIMIT_MILLIS, 0, Runtime.getRuntime().availableProcessors());
+        }
+        return monteCarloPlayer;
     }
 
     /**
      * Creates a pane that contains the winner background, message, and restart button.
-     * This method takes the arguments and displays them on a Stack Pane corresponding with who won.
+     * The pane is built once, and the background and message are swapped for whoever won.
      *
      * @param stage the stage that we are currently on
-     * @param background the background image associated with the winner
-     * @param winnerMessage the text image with the appropriate text displaying the winner
      * @return the stack pane
      */
-    private Pane getWinnerPane(Stage stage, ImageView background, ImageView winnerMessage) {
+    private Pane getWinnerPane(Stage stage) {
         // Create restart button
-        Button restart = new Button();
-        restart.setGraphic(new ImageView(FileAssets.RESTART));
+        ImageButton restart = new ImageButton(FileAssets.RESTART, FileAssets.RESTART_HOVER);
         restart.setStyle("-fx-background-color: transparent; -fx-padding: 0");
         // -Action effects
         restart.setOnAction(e -> {
-            restartIsClicked();
-            mainPane.setCenter(getTitlePane(stage));
+            cancelComputerMove();
+            screens.show(Screen.TITLE);
         });
-        // -Hover effects
-        restart.setOnMouseEntered(mouseEvent -> {restart.setGraphic(new ImageView(FileAssets.RESTART_HOVER));});
-        restart.setOnMouseExited(mouseEvent -> {restart.setGraphic(new ImageView(FileAssets.RESTART));});
+
+        // Background and winner message, filled in by showWinner
+        winnerBackground = new ImageView();
+        winnerMessage = new ImageView();
 
         // VBox to hold the winner message and restart button
         VBox messageContainer = new VBox();
@@ -550,64 +673,56 @@ public class TicTacToeApp extends Application {
 
         // Stack Pane to hold all elements
         StackPane winnerLayer = new StackPane();
-        winnerLayer.getChildren().addAll(background, messageContainer);
+        winnerLayer.getChildren().addAll(winnerBackground, messageContainer);
 
         return winnerLayer;
     }
 
-    private Pane getTiePane(Stage stage) {
-        // Create background and winner message
-        ImageView bkgReg = new ImageView(FileAssets.BKG_DRAW);
-        ImageView winner = new ImageView(FileAssets.DRAW_MSG);
+    /**
+     * Shows the winner screen with the given background and message.
+     *
+     * @param background the background image associated with the winner
+     * @param message the text image with the appropriate text displaying the winner
+     */
+    private void showWinner(Image background, Sprite message) {
+        screens.show(Screen.WINNER);
+        winnerBackground.setImage(background);
+        message.applyTo(winnerMessage);
+    }
 
-        // Get the winner pane with the appropriate message
-        return getWinnerPane(stage, bkgReg, winner);
+    /**
+     * Counts a draw and shows the "Draw" screen.
+     */
+    private void showTie() {
+        recordGame(0, 0, 1);
+        showWinner(FileAssets.BKG_DRAW, FileAssets.DRAW_MSG);
     }
 
     /**
-     * Creates and returns a pane representing the "X Wins" screen in the Tic-Tac-Toe application.
+     * Gives player X a point and shows the "X Wins" screen.
      *
-     * The pane includes a background image, a message indicating that player X has won,
+     * The screen includes a background image, a message indicating that player X has won,
      * and a restart button. The restart button allows the game to be reset and navigates
-     * back to the title screen. The restart button also supports hover effects that change
-     * its appearance when the mouse enters or exits the button.
-     *
-     * @return a StackPane containing the "X Wins" screen layout, including background, message, and restart button
+     * back to the title screen.
      */
-    private Pane getXWinsPane(Stage stage) {
-        // Give player X a point
-        xWinCount++;
-        xWinsText.setText(String.valueOf(xWinCount));
-
-        // Create background and winner message
-        ImageView bkgDay = new ImageView(FileAssets.BKG_DAY);
-        ImageView winner = new ImageView(FileAssets.PLR_X_MSG);
+    private void showXWins() {
+        // Save player X's point (it was counted when the game ended)
+        recordGame(1, 0, 0);
 
-        // Get the winner pane with the appropriate message
-        return getWinnerPane(stage, bkgDay, winner);
+        showWinner(FileAssets.BKG_DAY, FileAssets.PLR_X_MSG);
     }
 
     /**
-     * Creates and returns a pane representing the "O Wins" screen in the Tic-Tac-Toe application.
+     * Gives player O a point and shows the "O Wins" screen.
      *
-     * The pane consists of a background image, a message indicating that player O has won,
+     * The screen consists of a background image, a message indicating that player O has won,
      * and a restart button. The restart button resets the game and navigates back to the title screen.
-     * Hover effects are applied to the restart button, changing its appearance when the mouse enters or exits the button.
-     *
-     * @return a StackPane containing the "O Wins" screen layout, including background, message, and restart button
      */
-    private Pane getOWinsPane(Stage stage) {
-        // Give O a point
-        oWinCount++;
-        oWinsText.setText(String.valueOf(oWinCount));
-
-        // Create background and winner message
-        ImageView bkgNight = new ImageView(FileAssets.BKG_NIGHT);
-        ImageView winner = new ImageView(FileAssets.PLR_O_MSG);
-
-        // Get the winner pane with the appropriate message
-        return getWinnerPane(stage, bkgNight, winner);
+    private void showOWins() {
+        // Save O's point (it was counted when the game ended)
+        recordGame(0, 1, 0);
 
+        showWinner(FileAssets.BKG_NIGHT, FileAssets.PLR_O_MSG);
     }
 
     /**
@@ -627,6 +742,7 @@ public class TicTacToeApp extends Application {
         }
 
         // Set Menu Stage
+        FileAssets.awaitAssets();
         menuStage = new Stage();
         menuStage.initStyle(StageStyle.UNDECORATED);
         menuStage.initOwner(stage);
@@ -679,50 +795,33 @@ public class TicTacToeApp extends Application {
         labelLayer.getChildren().addAll(xWinsText, oWinsText);
 
         // Create Reset Scores Button
-        Button btnResetScores = new Button();
-        btnResetScores.setGraphic(new ImageView(FileAssets.RESET_SCORES));
+        ImageButton btnResetScores = new ImageButton(FileAssets.RESET_SCORES, FileAssets.RESET_SCORES_HOVER);
         btnResetScores.setStyle("-fx-background-color: transparent;");
 
-        // Hover effects
-        btnResetScores.setOnMouseEntered(mouseEvent -> {btnResetScores.setGraphic(new ImageView(FileAssets.RESET_SCORES_HOVER));});
-        btnResetScores.setOnMouseExited(mouseEvent -> {btnResetScores.setGraphic(new ImageView(FileAssets.RESET_SCORES));});
-
         // Action effect - clear the scores
         btnResetScores.setOnAction(e -> {
-            xWinCount = 0;
-            oWinCount = 0;
-            xWinsText.setText("0");
-            oWinsText.setText("0");
+            scoreWriter.record(System.currentTimeMillis(), 0, 0, 0, ScoreStore.FLAG_RESET);
+            statistics.reset();
+            scoresResetSinceLaunch = true;
+            refreshScoreLabels();
         });
 
         // Create Export Scores Button
-        Button btnExportScores = new Button();
-        btnExportScores.setGraphic(new ImageView(FileAssets.EXPORT_SCORES));
+        ImageButton btnExportScores = new ImageButton(FileAssets.EXPORT_SCORES, FileAssets.EXPORT_SCORES_HOVER);
         btnExportScores.setStyle("-fx-background-color: transparent;");
 
-        // Hover effects
-        btnExportScores.setOnMouseEntered(mouseEvent -> btnExportScores.setGraphic(new ImageView(FileAssets.EXPORT_SCORES_HOVER)));
-        btnExportScores.setOnMouseExited(mouseEvent -> btnExportScores.setGraphic(new ImageView(FileAssets.EXPORT_SCORES)));
-
         // Action effect - call method to export the scores to a txt file
         btnExportScores.setOnAction(e -> exportScoresToFile());
 
         // Create Change Mode Button
-        Button btnChangeMode = new Button();
-        btnChangeMode.setGraphic(new ImageView(FileAssets.PLAYER_VERSUS_PLAYER)); // Default Mode (player vs player)
+        // Button hover shows the opposite of the curr state
+        ImageButton btnChangeMode = new ImageButton(FileAssets.PLAYER_VERSUS_PLAYER, FileAssets.VERSUS_COMPUTER); // Default Mode (player vs player)
         btnChangeMode.setStyle("-fx-background-color: transparent;");
 
         // Sync icon whenever state changes
         vsComputer.addListener((observable, oldValue, newValue) -> {
-            btnChangeMode.setGraphic(new ImageView(newValue ? FileAssets.VERSUS_COMPUTER : FileAssets.PLAYER_VERSUS_PLAYER));
-        });
-
-        // Button hover actions - change to the opposite of the curr state
-        btnChangeMode.setOnMouseEntered(e -> {
-            btnChangeMode.setGraphic(new ImageView(vsComputer.get() ? FileAssets.PLAYER_VERSUS_PLAYER : FileAssets.VERSUS_COMPUTER));
-        });
-        btnChangeMode.setOnMouseExited(e -> {
-            btnChangeMode.setGraphic(new ImageView(vsComputer.get() ? FileAssets.VERSUS_COMPUTER : FileAssets.PLAYER_VERSUS_PLAYER));
+            btnChangeMode.setImages(newValue ? FileAssets.VERSUS_COMPUTER : FileAssets.PLAYER_VERSUS_PLAYER,
+                    newValue ? FileAssets.PLAYER_VERSUS_PLAYER : FileAssets.VERSUS_COMPUTER);
         });
 
         // Switch the mode when clicked
@@ -730,15 +829,34 @@ public class TicTacToeApp extends Application {
             vsComputer.set(!vsComputer.get());
         });
 
+        // Create Difficulty Button
+        Button btnDifficulty = new Button("Difficulty: " + difficulty.get().getDisplayName());
+        btnDifficulty.setStyle("-fx-background-color: transparent; -fx-font-size: 16px; -fx-text-fill: #5a5a66;");
+
+        // Sync text whenever the difficulty changes
+        difficulty.addListener((observable, oldValue, newValue) -> {
+            btnDifficulty.setText("Difficulty: " + newValue.getDisplayName());
+        });
+
+        // Cycle through the difficulties when clicked
+        btnDifficulty.setOnAction(e -> difficulty.set(difficulty.get().next()));
+
+        // Create Board Size Button
+        Button btnVariant = new Button("Board: " + variant.get().getDisplayName());
+        btnVariant.setStyle("-fx-background-color: transparent; -fx-font-size: 16px; -fx-text-fill: #5a5a66;");
+
+        // Sync text whenever the board size changes
+        variant.addListener((observable, oldValue, newValue) -> {
+            btnVariant.setText("Board: " + newValue.getDisplayName());
+        });
+
+        // Cycle through the board sizes when clicked (takes effect on the next game)
+        btnVariant.setOnAction(e -> variant.set(variant.get().next()));
+
         // Create Menu Close Button
-        Button btnMenuClose = new Button();
-        btnMenuClose.setGraphic(new ImageView(FileAssets.MENU_CLOSE));
+        ImageButton btnMenuClose = new ImageButton(FileAssets.MENU_CLOSE, FileAssets.MENU_CLOSE_HOVER);
         btnMenuClose.setStyle("-fx-background-color: transparent;");
 
-        // Hover effects
-        btnMenuClose.setOnMouseEntered(mouseEvent -> btnMenuClose.setGraphic(new ImageView(FileAssets.MENU_CLOSE_HOVER)));
-        btnMenuClose.setOnMouseExited(mouseEvent -> btnMenuClose.setGraphic(new ImageView(FileAssets.MENU_CLOSE)));
-
         // Action effect - hide the menu
         btnMenuClose.setOnAction(e -> menuStage.hide());
 
@@ -763,7 +881,7 @@ public class TicTacToeApp extends Application {
         VBox buttonBox = new VBox(10);
         buttonBox.setPadding(new Insets(0, 0, 20, 0));
         buttonBox.setAlignment(Pos.CENTER);
-        buttonBox.getChildren().addAll(btnResetScores, btnExportScores, btnChangeMode);
+        buttonBox.getChildren().addAll(btnResetScores, btnExportScores, btnChangeMode, btnDifficulty, btnVariant);
         //StackPane.setAlignment(buttonBox, Pos.BOTTOM_CENTER);
 
         menuLayout.getChildren().addAll(spacer, buttonBox);
@@ -771,89 +889,214 @@ public class TicTacToeApp extends Application {
         // Add the background, score labels, and menu layout to the Stack Pane
         menuStack.getChildren().addAll(MenuBackground, labelLayer, menuLayout);
 
+        // Keep the scores up to date while the menu is open, at most a few times a second
+        scoreRefresh = new Timeline(new KeyFrame(SCORE_REFRESH, e -> refreshScoreLabels()));
+        scoreRefresh.setCycleCount(Animation.INDEFINITE);
+        menuStage.setOnShown(e -> {
+            refreshScoreLabels();
+            scoreRefresh.play();
+        });
+        menuStage.setOnHidden(e -> scoreRefresh.stop());
+
         Scene menuScene = new Scene(menuStack, 265, 445);
         menuStage.setScene(menuScene);
         menuStage.show();
     }
 
     /**
-     * Creates / appends a txt file (scores_log.txt) with the current scores along with the current date and time
+     * Shows the current scores on the menu labels, if they changed since they were last shown.
      */
+    private static void refreshScoreLabels() {
+        long xWins = statistics.xWins();
+        long oWins = statistics.oWins();
+        if (xWins != shownXWins) {
+            xWinsText.setText(String.valueOf(xWins));
+            shownXWins = xWins;
+        }
+        if (oWins != shownOWins) {
+            oWinsText.setText(String.valueOf(oWins));
+            shownOWins = oWins;
+        }
+    }
 
-    private static void exportScoresToFile() {
-        // Create file name
-        String fileName = "scores_log.txt";
+    /**
+     * Starts the score writer, which opens the score history on its own thread so the title screen
+     * does not wait for the file to be opened, checked and (the first time) filled from the old log.
+     * If the history cannot be opened the game still works, with scores starting at 0.
+     *
+     * How often the history is flushed to disk is set with -Dscores.durability=NONE, BATCH (the default)
+     * or EVERY_EVENT.
+     */
+    private static void startScoreWriter() {
+        ScoreWriter.Durability durability = ScoreWriter.Durability.BATCH;
+        String setting = System.getProperty("scores.durability");
+        if (setting != null) {
+            try {
+                durability = ScoreWriter.Durability.valueOf(setting.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown score durability " + setting + ", using " + durability);
+            }
+        }
+        scoreWriter = new ScoreWriter(TicTacToeApp::openScoreStore, durability);
+        scoreWriter.submit(TicTacToeApp::openGameArchive);
+    }
 
-        //Create file and try writing to it
-        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName, true))) {
-            // Get the current date and time and create a formatter
-            LocalDateTime now = LocalDateTime.now();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm a");
+    /**
+     * Opens the score history and shows the scores since they were last reset. Runs on the score
+     * writer thread. While the score history is still empty, the old text log is imported into it,
+     * so an import that failed is tried again on the next start.
+     *
+     * @return the opened score history
+     * @throws IOException if the score history cannot be opened
+     */
+    private static ScoreStore openScoreStore() throws IOException {
+        ScoreStore store = ScoreStore.open(Path.of(SCORE_STORE_FILE));
+
+        // Bring in the scores exported before the score history existed
+        Path log = Path.of(SCORE_LOG_FILE);
+        if (store.size() == 0 && Files.exists(log)) {
+            try {
+                ScoreLogImporter.importLog(log, store);
+            } catch (IOException e) {
+                System.err.println("Error importing score log: " + e.getMessage());
+            }
+        }
 
-            // Write to file
-            writer.println("X Wins: " + xWinCount);
-            writer.println("O Wins: " + oWinCount);
-            writer.println("Timestamp: " + now.format(formatter));
-            writer.println("----------------------------");
+        // Games finished before this point are still queued, so they add to these totals rather than being in them
+        ScoreTotals totals = store.totalsSinceReset();
+        Platform.runLater(() -> {
+            if (scoresResetSinceLaunch) return;
+            statistics.restore(totals.xWins(), totals.oWins(), totals.draws());
+            refreshScoreLabels();
+        });
+        return store;
+    }
 
-            // Verify that it was exported successfully
-            System.out.println("Scores exported to " + fileName);
+    /**
+     * Opens the game archive. Runs on the score writer thread.
+     */
+    private static void openGameArchive() {
+        try {
+            gameArchive = GameArchive.open(Path.of(GAME_ARCHIVE_FILE));
         } catch (IOException e) {
-            // Error message
-            System.err.println("Error writing to score log: " + e.getMessage());
+            System.err.println("Error opening game archive: " + e.getMessage());
         }
     }
 
     /**
-     * Checks whether the board is full or not.
+     * Closes the game archive. Runs on the score writer thread.
+     */
+    private static void closeGameArchive() {
+        if (gameArchive == null) return;
+        try {
+            gameArchive.close();
+        } catch (IOException e) {
+            System.err.println("Error closing game archive: " + e.getMessage());
+        }
+        gameArchive = null;
+    }
+
+    /**
+     * Counts the current game in the statistics and adds its moves to the game archive in the background.
      *
-     * @param board the integer 2D array that you are checking
-     * @return true if the board is full, otherwise false
+     * @param result how the game ended
      */
-    private boolean isBoardFull(int[][] board) {
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (board[i][j] == -1) {
-                    return false;
-                }
+    private void endGame(GameRecord.Result result) {
+        GameRecord.Opponent opponent = roundOpponent;
+        statistics.recordGame(opponent, result);
+        if (Metrics.ENABLED) {
+            Metrics.recordRound(result.name(), Metrics.allocatedBytes() - roundAllocationStart);
+        }
+
+        int[] moves = new int[board.moveCount()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = board.moveAt(i);
+        }
+        GameRecord game = new GameRecord(System.currentTimeMillis(), currentVariant(), opponent, result, moves);
+        scoreWriter.submit(() -> {
+            if (gameArchive == null) return;
+            try {
+                gameArchive.append(game);
+            } catch (IOException e) {
+                System.err.println("Error saving game: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * @return the variant of the board being played, which can differ from the one selected in the menu
+     */
+    private GameVariant currentVariant() {
+        for (GameVariant candidate : GameVariant.values()) {
+            if (candidate.getSize() == board.size() && candidate.getWinLength() == board.winLength()) {
+                return candidate;
             }
         }
-        return true;
+        return GameVariant.CLASSIC;
     }
 
     /**
-     * Resets the `isClicked` array by setting all its elements to false.
-     *
-     * The `isClicked` array is a 2D boolean array used to track the click state
-     * of grid buttons in the Tic-Tac-Toe game. This method iterates through
-     * all rows and columns of the array and ensures every element is reset to
-     * the default state of false.
-     *
-     * This method is typically called when the game is restarted to clear
-     * any previous click states and prepare for a new game session.
+     * @return who the menu settings say plays 'O' on the current board, read when a round starts
      */
-    private void restartIsClicked() {
-    //reset isClicked values
-        for (boolean[] booleans : isClicked) {
-            Arrays.fill(booleans, false);
+    private GameRecord.Opponent selectedOpponent() {
+        if (!vsComputer.get()) {
+            return GameRecord.Opponent.PLAYER;
+        } else if (currentVariant() != GameVariant.CLASSIC) {
+            return GameRecord.Opponent.MONTE_CARLO;
         }
+        return difficulty.get() == Difficulty.PERFECT ? GameRecord.Opponent.PERFECT : GameRecord.Opponent.CREATOR;
     }
 
     /**
-     * Resets the game board to its initial state with all cells set to -1.
-     *
-     * This method creates and returns a 3x3 integer array representing the Tic-Tac-Toe
-     * board, where each element is initialized to -1. This state signifies that no moves
-     * have been made and the board is empty.
-     *
-     * @return a 3x3 integer array initialized to -1, representing an empty Tic-Tac-Toe board
+     * Ends the current game as abandoned if it was started but not finished.
+     */
+    private void abandonUnfinishedGame() {
+        if (board.moveCount() > 0 && !board.isGameOver()) {
+            endGame(GameRecord.Result.ABANDONED);
+        }
+    }
+
+    /**
+     * Adds a finished game to the score history in the background.
      */
-    private int[][] resetBoard() {
-        return new int[][]{
-                {-1, -1, -1},
-                {-1, -1, -1},
-                {-1, -1, -1}
-        };
+    private static void recordGame(int xWins, int oWins, int draws) {
+        scoreWriter.record(System.currentTimeMillis(), xWins, oWins, draws, 0);
+    }
+
+    /**
+     * Creates / appends a txt file (scores_log.txt) with the current scores along with the current
+     * date and time. The file is written in the background by the score writer.
+     */
+
+    private static void exportScoresToFile() {
+        // Take the scores and time now, while they are current
+        long xWins = statistics.xWins();
+        long oWins = statistics.oWins();
+        LocalDateTime now = LocalDateTime.now();
+        scoreWriter.submit(() -> writeScoreLog(xWins, oWins, now));
+    }
+
+    private static void writeScoreLog(long xWins, long oWins, LocalDateTime time) {
+        // Create file name
+        String fileName = SCORE_LOG_FILE;
+
+        //Create file and try writing to it
+        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName, true))) {
+            // Create a formatter for the date and time
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm a");
+
+            // Write to file
+            writer.println("X Wins: " + xWins);
+            writer.println("O Wins: " + oWins);
+            writer.println("Timestamp: " + time.format(formatter));
+            writer.println("----------------------------");
+
+            // Verify that it was exported successfully
+            System.out.println("Scores exported to " + fileName);
+        } catch (IOException e) {
+            // Error message
+            System.err.println("Error writing to score log: " + e.getMessage());
+        }
     }
 
 }
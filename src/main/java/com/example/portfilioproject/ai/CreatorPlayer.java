@@ -0,0 +1,99 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays the way the creator plays Tic-Tac-Toe, for a human like effect.
+ * Random numbers are added to add human like flaws.
+ *
+ * The strategy prioritizes winning, blocking, then positioning
+ * (center, corners, sides), with random chances that some steps will be skipped.
+ *
+ * Winning and blocking cells come straight from the board's threat index, so a move takes a few
+ * table lookups however many cells are free.
+ */
+public final class CreatorPlayer implements Player {
+
+    // Chances of each step being taken
+    private static final double RANDOM_MOVE_CHANCE = 0.10;
+    private static final double WIN_CHANCE = 0.85;
+    private static final double BLOCK_CHANCE = 0.80;
+    private static final double CENTER_CHANCE = 0.70;
+
+    // Cells in the order they are tried
+    private static final int CENTER = BitBoard.cell(1, 1);
+    private static final int[] CORNERS = {BitBoard.cell(0, 0), BitBoard.cell(0, 2), BitBoard.cell(2, 0), BitBoard.cell(2, 2)};
+    private static final int[] SIDES = {BitBoard.cell(0, 1), BitBoard.cell(1, 0), BitBoard.cell(1, 2), BitBoard.cell(2, 1)};
+
+    @Override
+    public String name() {
+        return "creator";
+    }
+
+    /**
+     * Determines the best move for the player to move based on the creator's strategy.
+     *
+     * @param board the current game board
+     * @param random the random source used for the human like flaws
+     * @return the cell index of the chosen move, or -1 if no moves can be made
+     */
+    @Override
+    public int chooseMove(BitBoard board, RandomGenerator random) {
+        int player = board.sideToMove();
+        int empty = board.emptyMask();
+
+        // Make a random move (10% chance)
+        if (random.nextDouble() < RANDOM_MOVE_CHANCE) {
+            return RandomPlayer.randomCell(empty, random);
+        }
+
+        // Check if computer can win (85% chance)
+        if (random.nextDouble() < WIN_CHANCE) {
+            int winMove = lowestCell(board.winningCells(player));
+            if (winMove >= 0) return winMove;
+        }
+
+        // Block the opponent if they can win next turn (80% chance)
+        if (random.nextDouble() < BLOCK_CHANCE) {
+            int blockMove = lowestCell(board.winningCells(BitBoard.opponent(player)));
+            if (blockMove >= 0) return blockMove;
+        }
+
+        // Take the center if it is available (70% chance)
+        if (random.nextDouble() < CENTER_CHANCE && isFree(empty, CENTER)) {
+            return CENTER;
+        }
+
+        // Try to take corners
+        for (int cell : CORNERS) {
+            if (isFree(empty, cell)) return cell;
+        }
+
+        // Take sides if there is nothing else
+        for (int cell : SIDES) {
+            if (isFree(empty, cell)) return cell;
+        }
+
+        // The center can be the only cell left if it was skipped above
+        if (isFree(empty, CENTER)) return CENTER;
+
+        // No moves are left
+        return -1;
+    }
+
+    /**
+     * Picks the lowest cell of a mask, which is the cell the strategy has always tried first.
+     *
+     * @param cells the candidate cells
+     * @return the lowest cell index, or -1 if the mask is empty
+     */
+    private static int lowestCell(int cells) {
+        return cells == 0 ? -1 : Integer.numberOfTrailingZeros(cells);
+    }
+
+    private static boolean isFree(int empty, int cell) {
+        return (empty & (1 << cell)) != 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.portfilioproject.ai;
+
+/**
+ * How the computer picks its moves when playing against the computer.
+ */
+public enum Difficulty {
+    // Plays like the creator, including the occasional human-like mistake
+    CREATOR("Creator"),
+    // Never loses
+    PERFECT("Perfect");
+
+    private final String displayName;
+
+    Difficulty(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return the name shown in the menu
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return the difficulty that comes after this one when cycling through them in the menu
+     */
+    public Difficulty next() {
+        Difficulty[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+}
@@ -0,0 +1,368 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.engine.GridBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Computer player for boards larger than 3x3, using Monte Carlo Tree Search.
+ *
+ * Each worker in a fork-join pool repeatedly walks down one shared search tree, adds a node,
+ * plays a random game to the end and records the result on the way back up (tree parallelism).
+ * Visit and win counters are atomics, and a visit is counted on the way down, so other workers
+ * treat a path that is being explored as a temporary loss and spread out over the tree instead of
+ * all following the same line. No locks are taken anywhere in the search.
+ *
+ * The search stops when either the time limit or the playout limit is reached, whichever comes
+ * first, or as soon as the thread that asked for the move is interrupted. Statistics for the last
+ * search, including playouts per second, are kept so the budget and thread count can be tuned for
+ * the machine.
+ */
+public final class MonteCarloPlayer implements AutoCloseable {
+
+    // Exploration constant for UCT
+    private static final double EXPLORATION = 1.4;
+
+    // Only cells this close to an existing mark are considered on large boards
+    private static final int NEIGHBOURHOOD = 2;
+
+    // Search settings
+    private final long timeLimitMillis;
+    private final long playoutLimit;
+    private final int threads;
+    private final ForkJoinPool pool;
+
+    // Statistics for the most recent search
+    private volatile SearchStats lastStats;
+
+    /**
+     * Creates a player with its own fork-join pool.
+     *
+     * @param timeLimitMillis the time budget per move in milliseconds, or 0 for no time limit
+     * @param playoutLimit the playout budget per move, or 0 for no playout limit
+     * @param threads the number of workers searching the tree at once
+     * @throws IllegalArgumentException if there is no budget at all or no threads
+     */
+    public MonteCarloPlayer(long timeLimitMillis, long playoutLimit, int threads) {
+        if (timeLimitMillis <= 0 && playoutLimit <= 0) {
+            throw new IllegalArgumentException("A time limit or a playout limit is required");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+        this.timeLimitMillis = timeLimitMillis;
+        this.playoutLimit = playoutLimit;
+        this.threads = threads;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Searches for the best move for the player whose turn it is.
+     *
+     * If the calling thread is interrupted (for example because the game was restarted), every
+     * worker stops at the end of its current playout and the best move found so far is returned,
+     * with the thread's interrupt status still set.
+     *
+     * @param board the current game board, left unchanged when the method returns
+     * @return the chosen cell index, or -1 if the game is already over
+     * @throws IllegalStateException if a worker failed, in which case the other workers are stopped too
+     */
+    public int chooseMove(GridBoard board) {
+        long start = System.nanoTime();
+        if (board.isGameOver()) return -1;
+        int player = board.sideToMove();
+        int[] candidates = candidateMoves(board);
+
+        // Take a winning move, or block the opponent's, without searching
+        int forced = findForcedMove(board, candidates, player);
+        if (forced >= 0) {
+            lastStats = new SearchStats(0, System.nanoTime() - start, threads);
+            return forced;
+        }
+
+        // Let every worker search the same tree until the budget runs out
+        Node root = new Node(-1, BitBoard.opponent(player), null);
+        root.expand(candidates, player);
+        AtomicLong playouts = new AtomicLong();
+        long deadline = timeLimitMillis > 0 ? start + timeLimitMillis * 1_000_000 : Long.MAX_VALUE;
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Future<?>> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            // Each worker gets its own copy now, so none of them reads the caller's board later
+            GridBoard scratch = new GridBoard(board);
+            workers.add(pool.submit(() -> search(root, scratch, playouts, deadline, stop)));
+        }
+        try {
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            // Cancelled: use what has been searched so far and leave the interrupt for the caller
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search failed", e.getCause());
+        } finally {
+            stop.set(true);
+        }
+
+        long played = playoutLimit > 0 ? Math.min(playouts.get(), playoutLimit) : playouts.get();
+        lastStats = new SearchStats(played, System.nanoTime() - start, threads);
+        return root.mostVisitedMove();
+    }
+
+    /**
+     * @return statistics for the most recent search, or null if no search has run yet
+     */
+    public SearchStats lastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Stops the worker threads. The player cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Runs playouts on one worker until the budget runs out, the search is stopped or the worker
+     * thread is interrupted (when the player is closed).
+     *
+     * @param scratch the worker's own copy of the board, in the root position
+     */
+    private void search(Node root, GridBoard scratch, AtomicLong playouts, long deadline, AtomicBoolean stop) {
+        int rootMoves = scratch.moveCount();
+        int[] empties = new int[scratch.cellCount()];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (!stop.get() && !Thread.currentThread().isInterrupted() && System.nanoTime() < deadline) {
+            long done = playouts.getAndIncrement();
+            if (playoutLimit > 0 && done >= playoutLimit) break;
+
+            // Selection: follow the best UCT child, counting the visit on the way down
+            Node node = root;
+            node.visits.incrementAndGet();
+            int winner = BitBoard.EMPTY;
+            boolean over = false;
+            while (true) {
+                Node[] children = node.children.get();
+                if (children == null) break;
+                node = node.select();
+                node.visits.incrementAndGet();
+                if (scratch.play(node.move, node.player)) {
+                    winner = node.player;
+                    over = true;
+                    break;
+                }
+                if (scratch.isFull()) {
+                    over = true;
+                    break;
+                }
+            }
+
+            // Expansion: add the children of the node the first time it is revisited
+            if (!over && node.visits.get() > 1) {
+                node.expand(candidateMoves(scratch), BitBoard.opponent(node.player));
+                Node[] children = node.children.get();
+                if (children.length > 0) {
+                    node = children[random.nextInt(children.length)];
+                    node.visits.incrementAndGet();
+                    if (scratch.play(node.move, node.player)) {
+                        winner = node.player;
+                        over = true;
+                    } else if (scratch.isFull()) {
+                        over = true;
+                    }
+                }
+            }
+
+            // Simulation: play random moves to the end of the game
+            if (!over) {
+                winner = playout(scratch, empties, random);
+            }
+
+            // Backpropagation: 2 points for a win, 1 for a draw, from the mover's point of view
+            for (Node n = node; n != null; n = n.parent) {
+                if (winner == BitBoard.EMPTY) {
+                    n.wins.addAndGet(1);
+                } else if (winner == n.player) {
+                    n.wins.addAndGet(2);
+                }
+            }
+
+            // Put the scratch board back to the root position
+            while (scratch.moveCount() > rootMoves) {
+                scratch.undo();
+            }
+        }
+    }
+
+    /**
+     * Plays random moves until somebody wins or the board is full.
+     *
+     * @return the winner, or -1 for a draw
+     */
+    private static int playout(GridBoard board, int[] empties, ThreadLocalRandom random) {
+        int count = 0;
+        for (int cell = 0; cell < board.cellCount(); cell++) {
+            if (board.isEmpty(cell)) empties[count++] = cell;
+        }
+        int player = board.sideToMove();
+        while (count > 0) {
+            int pick = random.nextInt(count);
+            int cell = empties[pick];
+            empties[pick] = empties[--count];
+            if (board.play(cell, player)) return player;
+            player = BitBoard.opponent(player);
+        }
+        return BitBoard.EMPTY;
+    }
+
+    /**
+     * Finds a move that wins immediately, or failing that one that stops the opponent winning next turn.
+     *
+     * @return the forced cell, or -1 if there is none
+     */
+    private static int findForcedMove(GridBoard board, int[] candidates, int player) {
+        for (int cell : candidates) {
+            if (board.isWinningLine(cell, player)) return cell;
+        }
+        int opponent = BitBoard.opponent(player);
+        for (int cell : candidates) {
+            if (board.isWinningLine(cell, opponent)) return cell;
+        }
+        return -1;
+    }
+
+    /**
+     * Lists the empty cells worth searching: every empty cell on small boards, otherwise only
+     * those near existing marks (or the center on an empty board).
+     */
+    static int[] candidateMoves(GridBoard board) {
+        int size = board.size();
+        int[] moves = new int[board.cellCount()];
+        int count = 0;
+
+        if (board.moveCount() == 0 && size > BitBoard.SIZE) {
+            return new int[]{board.cell(size / 2, size / 2)};
+        }
+
+        for (int cell = 0; cell < board.cellCount(); cell++) {
+            if (board.isEmpty(cell) && (size <= BitBoard.SIZE || hasNeighbour(board, cell))) {
+                moves[count++] = cell;
+            }
+        }
+        int[] result = new int[count];
+        System.arraycopy(moves, 0, result, 0, count);
+        return result;
+    }
+
+    private static boolean hasNeighbour(GridBoard board, int cell) {
+        int size = board.size();
+        int row = cell / size;
+        int col = cell % size;
+        for (int r = Math.max(0, row - NEIGHBOURHOOD); r <= Math.min(size - 1, row + NEIGHBOURHOOD); r++) {
+            for (int c = Math.max(0, col - NEIGHBOURHOOD); c <= Math.min(size - 1, col + NEIGHBOURHOOD); c++) {
+                if (!board.isEmpty(r * size + c)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One position in the search tree, reached by {@code player} playing {@code move}.
+     */
+    private static final class Node {
+        final int move;
+        final int player;
+        final Node parent;
+        final AtomicLong visits = new AtomicLong();
+        final AtomicLong wins = new AtomicLong();
+        final AtomicReference<Node[]> children = new AtomicReference<>();
+
+        Node(int move, int player, Node parent) {
+            this.move = move;
+            this.player = player;
+            this.parent = parent;
+        }
+
+        /**
+         * Adds a child for every move. If another worker got there first, its children are kept.
+         */
+        void expand(int[] moves, int nextPlayer) {
+            if (children.get() != null) return;
+            Node[] created = new Node[moves.length];
+            for (int i = 0; i < moves.length; i++) {
+                created[i] = new Node(moves[i], nextPlayer, this);
+            }
+            children.compareAndSet(null, created);
+        }
+
+        /**
+         * Picks the child with the highest UCT value, trying unvisited children first.
+         */
+        Node select() {
+            Node[] options = children.get();
+            double logVisits = Math.log(Math.max(1, visits.get()));
+            Node best = options[0];
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (Node child : options) {
+                long childVisits = child.visits.get();
+                if (childVisits == 0) return child;
+                double value = child.wins.get() / (2.0 * childVisits)
+                        + EXPLORATION * Math.sqrt(logVisits / childVisits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * @return the move of the most visited child, or -1 if the node was never expanded
+         */
+        int mostVisitedMove() {
+            Node[] options = children.get();
+            if (options == null || options.length == 0) return -1;
+            Node best = options[0];
+            for (Node child : options) {
+                if (child.visits.get() > best.visits.get()) best = child;
+            }
+            return best.move;
+        }
+    }
+
+    /**
+     * Statistics for one search.
+     *
+     * @param playouts the number of random games played
+     * @param elapsedNanos how long the search took
+     * @param threads the number of workers that searched
+     */
+    public record SearchStats(long playouts, long elapsedNanos, int threads) {
+
+        /**
+         * @return the number of playouts per second across all workers
+         */
+        public double playoutsPerSecond() {
+            return elapsedNanos == 0 ? 0 : playouts * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d playouts in %d ms on %d threads (%,.0f playouts/s)",
+                    playouts, elapsedNanos / 1_000_000, threads, playoutsPerSecond());
+        }
+    }
+}
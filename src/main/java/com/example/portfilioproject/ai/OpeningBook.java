@@ -0,0 +1,156 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A precomputed table holding the best move and score for every Tic-Tac-Toe position.
+ *
+ * The table is built ahead of time by {@link OpeningBookGenerator} and shipped as a resource.
+ * Positions are indexed by their base-3 encoding (each cell is 0 for empty, 1 for 'X' or 2 for 'O',
+ * and cell {@code i} is worth 3^i), so looking up a move is a single read from the table.
+ *
+ * File layout:
+ * - Header: the magic number, the format version and the number of entries (3 ints).
+ * - Entries: 2 bytes per position, the best cell (0-8) and the solver score for the player to move.
+ *   Positions that are illegal or already finished store {@link #NO_MOVE} as their cell.
+ */
+public final class OpeningBook {
+
+    // Resource path of the book shipped with the game
+    public static final String RESOURCE = "/data/openingBook.bin";
+
+    // File format
+    static final int MAGIC = 0x54545442; // "TTTB"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 3 * Integer.BYTES;
+    static final int ENTRY_BYTES = 2;
+    static final int POSITIONS = 19683; // 3^9
+    static final byte NO_MOVE = (byte) 0xFF;
+
+    // Base-3 value of every 9-bit mask, so a board index is BASE3[x] + 2 * BASE3[o]
+    private static final int[] BASE3 = new int[1 << BitBoard.CELLS];
+
+    static {
+        for (int mask = 0; mask <= BitBoard.FULL_MASK; mask++) {
+            int value = 0;
+            int power = 1;
+            for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+                if ((mask & (1 << cell)) != 0) value += power;
+                power *= 3;
+            }
+            BASE3[mask] = value;
+        }
+    }
+
+    private final ByteBuffer entries;
+
+    private OpeningBook(ByteBuffer entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the book shipped with the game.
+     *
+     * @return the loaded opening book
+     * @throws IOException if the resource is missing or not a valid book
+     */
+    public static OpeningBook load() throws IOException {
+        return load(RESOURCE);
+    }
+
+    /**
+     * Loads an opening book from the application's resources.
+     * When the resource is a plain file (for example when running from the IDE) it is memory-mapped,
+     * otherwise (for example inside a jar) it is read once into a direct buffer.
+     *
+     * @param resourcePath the absolute resource path of the book
+     * @return the loaded opening book
+     * @throws IOException if the resource is missing or not a valid book
+     */
+    public static OpeningBook load(String resourcePath) throws IOException {
+        URL url = OpeningBook.class.getResource(resourcePath);
+        if (url == null) {
+            throw new IOException("Opening book not found: " + resourcePath);
+        }
+
+        ByteBuffer buffer;
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid opening book path: " + url, e);
+            }
+        } else {
+            try (InputStream in = Objects.requireNonNull(OpeningBook.class.getResourceAsStream(resourcePath))) {
+                byte[] bytes = in.readAllBytes();
+                buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+            }
+        }
+        return fromBuffer(buffer);
+    }
+
+    /**
+     * Wraps a buffer holding a complete book file.
+     *
+     * @param buffer the book contents, starting with the header
+     * @return the opening book
+     * @throws IOException if the buffer is not a valid book
+     */
+    static OpeningBook fromBuffer(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() != HEADER_BYTES + POSITIONS * ENTRY_BYTES
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(Integer.BYTES) != VERSION
+                || buffer.getInt(2 * Integer.BYTES) != POSITIONS) {
+            throw new IOException("Not a valid opening book");
+        }
+        return new OpeningBook(buffer.position(HEADER_BYTES).slice());
+    }
+
+    /**
+     * Looks up the best move for the player whose turn it is.
+     *
+     * @param board the current game board
+     * @return the best cell index (0-8), or -1 if the game is already over
+     */
+    public int bestMove(BitBoard board) {
+        byte move = entries.get(index(board) * ENTRY_BYTES);
+        return move == NO_MOVE ? -1 : move;
+    }
+
+    /**
+     * Looks up the solver score of the position for the player whose turn it is.
+     *
+     * @param board the current game board
+     * @return a positive score for a win, 0 for a draw, a negative score for a loss
+     */
+    public int score(BitBoard board) {
+        return entries.get(index(board) * ENTRY_BYTES + 1);
+    }
+
+    /**
+     * @param board the board to encode
+     * @return the base-3 index of the board (0 to 3^9 - 1)
+     */
+    public static int index(BitBoard board) {
+        return index(board.mask(BitBoard.X), board.mask(BitBoard.O));
+    }
+
+    /**
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @return the base-3 index of the board (0 to 3^9 - 1)
+     */
+    public static int index(int xMask, int oMask) {
+        return BASE3[xMask] + 2 * BASE3[oMask];
+    }
+}
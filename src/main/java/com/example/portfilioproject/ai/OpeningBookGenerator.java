@@ -0,0 +1,87 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line tool that builds the {@link OpeningBook} file. The shipped book is checked against a
+ * brute-force search by {@code OpeningBookTest}.
+ *
+ * Usage: {@code OpeningBookGenerator [output]} solves every reachable position and writes the book
+ * (defaults to {@code src/main/resources/data/openingBook.bin}).
+ */
+public final class OpeningBookGenerator {
+
+    private static final String DEFAULT_OUTPUT = "src/main/resources/data/openingBook.bin";
+
+    private OpeningBookGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Path.of(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+        long start = System.nanoTime();
+        Book book = generate();
+        System.out.printf("Reachable positions: %d, positions with a move: %d%n", book.reachable(), book.withMove());
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.write(output, book.bytes());
+        System.out.printf("Wrote %s (%d bytes) in %d ms%n", output, book.bytes().length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * A generated book file and how many positions went into it.
+     *
+     * @param bytes the complete book file contents
+     * @param reachable the positions reachable from the empty board, finished ones included
+     * @param withMove the reachable positions that still have a move to store
+     */
+    record Book(byte[] bytes, int reachable, int withMove) {
+    }
+
+    /**
+     * Solves every position reachable from the empty board and packs the results into a book file.
+     *
+     * @return the book file contents and position counts
+     */
+    static Book generate() {
+        ByteBuffer buffer = ByteBuffer.allocate(OpeningBook.HEADER_BYTES + OpeningBook.POSITIONS * OpeningBook.ENTRY_BYTES);
+        buffer.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putInt(OpeningBook.POSITIONS);
+
+        // Start with every entry marked as "no move"
+        for (int i = 0; i < OpeningBook.POSITIONS; i++) {
+            buffer.put(OpeningBook.NO_MOVE).put((byte) 0);
+        }
+
+        int[] counts = new int[2]; // reachable positions, positions with a move
+        fill(new BitBoard(), PerfectSolver.shared(), buffer, new boolean[OpeningBook.POSITIONS], counts);
+        return new Book(buffer.array(), counts[0], counts[1]);
+    }
+
+    private static void fill(BitBoard board, PerfectSolver solver, ByteBuffer buffer, boolean[] visited, int[] counts) {
+        int index = OpeningBook.index(board);
+        if (visited[index]) return;
+        visited[index] = true;
+        counts[0]++;
+        if (board.isGameOver()) return;
+
+        // Store the solver's move and score for this position
+        int offset = OpeningBook.HEADER_BYTES + index * OpeningBook.ENTRY_BYTES;
+        buffer.put(offset, (byte) solver.bestMove(board));
+        buffer.put(offset + 1, (byte) solver.score(board));
+        counts[1]++;
+
+        // Visit every position that can follow this one
+        int player = board.sideToMove();
+        for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+            if (!board.isEmpty(cell)) continue;
+            board.play(cell, player);
+            fill(board, solver, buffer, visited, counts);
+            board.undo(cell);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Never loses. Moves come from the opening book when one is available, otherwise from the
+ * shared {@link PerfectSolver}.
+ */
+public final class PerfectPlayer implements Player {
+
+    private final OpeningBook book;
+
+    /**
+     * Creates a player that searches with the shared solver.
+     */
+    public PerfectPlayer() {
+        this(null);
+    }
+
+    /**
+     * @param book the opening book to look moves up in, or null to search with the solver instead
+     */
+    public PerfectPlayer(OpeningBook book) {
+        this.book = book;
+    }
+
+    @Override
+    public String name() {
+        return "perfect";
+    }
+
+    @Override
+    public int chooseMove(BitBoard board, RandomGenerator random) {
+        return book != null ? book.bestMove(board) : PerfectSolver.shared().bestMove(board);
+    }
+}
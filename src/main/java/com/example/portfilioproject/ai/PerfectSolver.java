@@ -0,0 +1,134 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.engine.Symmetry;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Plays Tic-Tac-Toe perfectly using negamax search with alpha-beta pruning.
+ *
+ * Every searched position is stored in a transposition table keyed by its canonical Zobrist hash,
+ * so all 8 rotations and reflections of a position share one entry. There are only 765 distinct
+ * positions once symmetry is taken into account, so a 4096-entry table (32 KB) holds all of them.
+ * Each entry is a single long holding the top 48 bits of the hash (to check it belongs to the
+ * position) and the result, which makes the table safe to share between games and threads: each
+ * entry is written in a single step, and two threads solving the same position simply store the
+ * same value.
+ *
+ * Scores are always from the point of view of the player to move. A win scores 1 plus the number
+ * of empty cells left after the winning move, so faster wins (and slower losses) are preferred.
+ */
+public final class PerfectSolver {
+
+    // Shared instance so every game reuses the same cache
+    private static final PerfectSolver SHARED = new PerfectSolver();
+
+    // Cells to try first: center, then corners, then sides (finds cut-offs sooner)
+    private static final int[] MOVE_ORDER = {4, 0, 2, 6, 8, 1, 3, 5, 7};
+
+    // Entry bounds
+    private static final int EXACT = 1;
+    private static final int LOWER = 2;
+    private static final int UPPER = 3;
+    private static final int SCORE_OFFSET = 16;
+
+    // Transposition table size and the hash bits that pick an entry
+    private static final int TABLE_BITS = 12;
+    private static final int INDEX_MASK = (1 << TABLE_BITS) - 1;
+    private static final int RESULT_BITS = 16;
+    private static final long TAG_MASK = -1L << RESULT_BITS;
+
+    // Entries hold the hash tag in the high bits and the result in the low 16 bits, 0 means "empty"
+    private final AtomicLongArray table = new AtomicLongArray(1 << TABLE_BITS);
+
+    /**
+     * @return the solver shared by the whole application
+     */
+    public static PerfectSolver shared() {
+        return SHARED;
+    }
+
+    /**
+     * Finds the best move for the player whose turn it is.
+     * Ties are broken by preferring the center, then corners, then sides.
+     *
+     * @param board the current game board, left unchanged when the method returns
+     * @return the best cell index (0-8), or -1 if the game is already over
+     */
+    public int bestMove(BitBoard board) {
+        if (board.isGameOver()) return -1;
+
+        int bestCell = -1;
+        int bestScore = Integer.MIN_VALUE;
+        int player = board.sideToMove();
+        for (int cell : MOVE_ORDER) {
+            if (!board.isEmpty(cell)) continue;
+            board.play(cell, player);
+            int score = -negamax(board, BitBoard.opponent(player), -SCORE_OFFSET, SCORE_OFFSET);
+            board.undo(cell);
+            if (score > bestScore) {
+                bestScore = score;
+                bestCell = cell;
+            }
+        }
+        return bestCell;
+    }
+
+    /**
+     * Works out the game-theoretic value of the position for the player whose turn it is.
+     *
+     * @param board the current game board, left unchanged when the method returns
+     * @return a positive score for a win, 0 for a draw, a negative score for a loss
+     */
+    public int score(BitBoard board) {
+        return negamax(board, board.sideToMove(), -SCORE_OFFSET, SCORE_OFFSET);
+    }
+
+    /**
+     * Clears the cache, mostly useful for timing the solver from a cold start.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, 0);
+        }
+    }
+
+    private int negamax(BitBoard board, int player, int alpha, int beta) {
+        // The previous move may have ended the game
+        int empties = BitBoard.CELLS - board.moveCount();
+        if (board.hasWon(BitBoard.opponent(player))) return -(empties + 1);
+        if (empties == 0) return 0;
+
+        // Check the cache
+        long hash = Symmetry.canonicalHash(board);
+        int index = (int) hash & INDEX_MASK;
+        long stored = table.get(index);
+        if (stored != 0 && (stored & TAG_MASK) == (hash & TAG_MASK)) {
+            int entry = (int) (stored & ~TAG_MASK);
+            int flag = entry >>> 8;
+            int cached = (entry & 0xFF) - SCORE_OFFSET;
+            if (flag == EXACT) return cached;
+            if (flag == LOWER && cached >= beta) return cached;
+            if (flag == UPPER && cached <= alpha) return cached;
+        }
+
+        // Search every move
+        int originalAlpha = alpha;
+        int best = -SCORE_OFFSET;
+        for (int cell : MOVE_ORDER) {
+            if (!board.isEmpty(cell)) continue;
+            board.play(cell, player);
+            int score = -negamax(board, BitBoard.opponent(player), -beta, -alpha);
+            board.undo(cell);
+            if (score > best) best = score;
+            if (best > alpha) alpha = best;
+            if (alpha >= beta) break;
+        }
+
+        // Remember the result along with how much of the window it covers
+        int flag = best <= originalAlpha ? UPPER : best >= beta ? LOWER : EXACT;
+        table.set(index, (hash & TAG_MASK) | (flag << 8) | (best + SCORE_OFFSET));
+        return best;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A strategy for choosing moves on the classic 3x3 board.
+ *
+ * Players do not depend on JavaFX and keep no per-game state, so a single instance can be used
+ * for any number of games, including games running on different threads at the same time.
+ * Any randomness comes from the generator passed in by the caller, so each thread can use its
+ * own (seeded) generator and games can be replayed exactly.
+ */
+public interface Player {
+
+    /**
+     * @return a short name for the strategy, used on the command line and in reports
+     */
+    String name();
+
+    /**
+     * Chooses a move for the player whose turn it is (see {@link BitBoard#sideToMove()}).
+     * Implementations must not allocate, so they can be called in tight simulation loops.
+     *
+     * @param board the current game board, which must be left unchanged when the method returns
+     * @param random the random source to use, owned by the calling thread
+     * @return the chosen cell index (0-8), or -1 if no moves can be made
+     */
+    int chooseMove(BitBoard board, RandomGenerator random);
+}
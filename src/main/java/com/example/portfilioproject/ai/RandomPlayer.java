@@ -0,0 +1,45 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays a random empty cell every turn.
+ */
+public final class RandomPlayer implements Player {
+
+    @Override
+    public String name() {
+        return "random";
+    }
+
+    /**
+     * Finds and returns a random empty spot on the board.
+     *
+     * @param board the current game board
+     * @param random the random source to use
+     * @return the cell index of the random move, or -1 if the board is full
+     */
+    @Override
+    public int chooseMove(BitBoard board, RandomGenerator random) {
+        return randomCell(board.emptyMask(), random);
+    }
+
+    /**
+     * Picks a random cell from a mask without building a list of the candidates.
+     *
+     * @param mask the cells to choose from
+     * @param random the random source to use
+     * @return a random cell index from the mask, or -1 if the mask is empty
+     */
+    static int randomCell(int mask, RandomGenerator random) {
+        if (mask == 0) return -1;
+
+        // Drop the lowest set bit until the chosen one is the lowest
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+}
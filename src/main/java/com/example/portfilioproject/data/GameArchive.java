@@ -0,0 +1,349 @@
+package com.example.portfilioproject.data;
+
+import com.example.portfilioproject.data.GameRecord.Opponent;
+import com.example.portfilioproject.data.GameRecord.Result;
+import com.example.portfilioproject.engine.GameVariant;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only file of compact game records.
+ *
+ * File layout:
+ * - Header (8 bytes): the magic number and the format version.
+ * - Records, one after another, each made of:
+ *   - 1 byte: the variant (bits 0-2), the result (bits 3-4) and the opponent (bits 5-7)
+ *   - 1 byte: the number of moves
+ *   - 4 bytes: the time the game ended, in seconds since the epoch (unsigned)
+ *   - the moves, packed with just enough bits for a cell index: 4 bits on the 3x3 board,
+ *     7 on 10x10 and 8 on 15x15, rounded up to a whole byte at the end of the game
+ *
+ * A full 3x3 game takes 11 bytes. Records are read back in order with a {@link Reader}, which only
+ * keeps one game in memory at a time, so archives of any size can be read.
+ *
+ * A game cut off at the end of the file (for example by a crash while it was being written) is
+ * dropped when the archive is next opened for appending, so new games always start where a
+ * complete one ends and the rest of the archive stays readable.
+ */
+public final class GameArchive implements AutoCloseable {
+
+    // File format
+    static final int MAGIC = 0x54545447; // "TTTG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_HEADER_BYTES = 6;
+
+    // Longest game that can be stored, limited by the one-byte move count
+    public static final int MAX_MOVES = 255;
+
+    private static final GameVariant[] VARIANTS = GameVariant.values();
+    private static final Opponent[] OPPONENTS = Opponent.values();
+    private static final Result[] RESULTS = Result.values();
+
+    // Read buffer used when checking the records of an existing archive
+    private static final int SCAN_BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + MAX_MOVES);
+
+    private GameArchive(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens an archive for appending, creating the file if it does not exist yet.
+     *
+     * @param path the archive file
+     * @return the opened archive
+     * @throws IOException if the file cannot be opened or is not a game archive
+     */
+    public static GameArchive open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            if (channel.size() == 0) {
+                // New file: write the header
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+            } else {
+                while (header.hasRemaining() && channel.read(header) >= 0) {
+                    // Keep reading until the header is complete
+                }
+                header.flip();
+                if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                    throw new IOException("Not a valid game archive");
+                }
+            }
+
+            // Drop a game left half written, so the next one does not start part way through it
+            long end = endOfLastRecord(channel);
+            if (end < channel.size()) {
+                System.err.println("Game archive ends part way through a game, dropping it");
+                channel.truncate(end);
+            }
+            channel.position(end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new GameArchive(channel);
+    }
+
+    /**
+     * Steps over every record after the header, using each record's variant and move count to
+     * find where the next one starts.
+     *
+     * @return the position just after the last record that is complete in the file
+     * @throws IOException if the file cannot be read or holds an invalid record
+     */
+    private static long endOfLastRecord(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long end = HEADER_BYTES;
+        channel.position(HEADER_BYTES);
+        // Not closed when done, as that would close the channel too
+        InputStream in = new BufferedInputStream(Channels.newInputStream(channel), SCAN_BUFFER_BYTES);
+        while (size - end >= RECORD_HEADER_BYTES) {
+            int flags = in.read();
+            int count = in.read();
+            int variantIndex = flags & 0b111;
+            if (variantIndex >= VARIANTS.length) {
+                throw new IOException("Invalid game record: unknown variant " + variantIndex);
+            }
+            long next = end + RECORD_HEADER_BYTES + (count * bitsPerMove(VARIANTS[variantIndex]) + 7) / 8;
+            if (next > size) break;
+            in.skipNBytes(next - end - 2);
+            end = next;
+        }
+        return end;
+    }
+
+    /**
+     * Adds a game to the end of the archive.
+     *
+     * @param game the game to add
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the game has too many moves or a move is not on its board
+     */
+    public void append(GameRecord game) throws IOException {
+        int[] moves = game.moves();
+        if (moves.length > MAX_MOVES) {
+            throw new IllegalArgumentException("Too many moves to store: " + moves.length);
+        }
+        int cells = game.variant().getSize() * game.variant().getSize();
+        int bits = bitsPerMove(game.variant());
+
+        buffer.clear();
+        buffer.put((byte) (game.variant().ordinal() | game.result().ordinal() << 3 | game.opponent().ordinal() << 5));
+        buffer.put((byte) moves.length);
+        buffer.putInt((int) (game.epochMillis() / 1000));
+
+        // Pack the moves into the bytes, lowest bits first
+        int pending = 0;
+        int pendingBits = 0;
+        for (int move : moves) {
+            if (move < 0 || move >= cells) {
+                throw new IllegalArgumentException("Move is not on the board: " + move);
+            }
+            pending |= move << pendingBits;
+            pendingBits += bits;
+            while (pendingBits >= 8) {
+                buffer.put((byte) pending);
+                pending >>>= 8;
+                pendingBits -= 8;
+            }
+        }
+        if (pendingBits > 0) {
+            buffer.put((byte) pending);
+        }
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Closes the file. Everything appended has already been handed to the operating system.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Opens an archive for reading from the start.
+     *
+     * @param path the archive file
+     * @return a reader positioned before the first game
+     * @throws IOException if the file cannot be opened or is not a game archive
+     */
+    public static Reader read(Path path) throws IOException {
+        return new Reader(Files.newInputStream(path));
+    }
+
+    /**
+     * @param variant the board
+     * @return the number of bits needed to store a cell index on the board
+     */
+    static int bitsPerMove(GameVariant variant) {
+        int cells = variant.getSize() * variant.getSize();
+        return 32 - Integer.numberOfLeadingZeros(cells - 1);
+    }
+
+    /**
+     * Reads games one at a time. The same reader object is updated for every game, so reading a
+     * whole archive does not allocate anything per game.
+     */
+    public static final class Reader implements AutoCloseable {
+
+        private static final int BUFFER_BYTES = 1 << 16;
+
+        private final DataInputStream in;
+        private final byte[] packed = new byte[MAX_MOVES];
+        private final int[] moves = new int[MAX_MOVES];
+
+        // The current game
+        private GameVariant variant;
+        private Opponent opponent;
+        private Result result;
+        private long epochMillis;
+        private int moveCount;
+
+        private Reader(InputStream stream) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(stream, BUFFER_BYTES));
+            try {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IOException("Not a valid game archive");
+                }
+            } catch (IOException e) {
+                in.close();
+                throw e instanceof EOFException ? new IOException("Not a valid game archive") : e;
+            }
+        }
+
+        /**
+         * Moves to the next game. A game cut off at the end of the file (for example by a crash
+         * while it was being written) is treated as the end of the archive.
+         *
+         * @return true if there was another game, false at the end of the archive
+         * @throws IOException if the file cannot be read or holds an invalid record
+         */
+        public boolean next() throws IOException {
+            int flags = in.read();
+            if (flags < 0) return false;
+            try {
+                int count = in.readUnsignedByte();
+                long seconds = Integer.toUnsignedLong(in.readInt());
+
+                int variantIndex = flags & 0b111;
+                int resultIndex = (flags >>> 3) & 0b11;
+                int opponentIndex = (flags >>> 5) & 0b111;
+                if (variantIndex >= VARIANTS.length) {
+                    throw new IOException("Invalid game record: unknown variant " + variantIndex);
+                }
+                if (opponentIndex >= OPPONENTS.length) {
+                    throw new IOException("Invalid game record: unknown opponent " + opponentIndex);
+                }
+                GameVariant nextVariant = VARIANTS[variantIndex];
+                int bits = bitsPerMove(nextVariant);
+                int bytes = (count * bits + 7) / 8;
+                in.readFully(packed, 0, bytes);
+
+                // Unpack the moves, lowest bits first
+                int mask = (1 << bits) - 1;
+                int pending = 0;
+                int pendingBits = 0;
+                int at = 0;
+                for (int i = 0; i < count; i++) {
+                    while (pendingBits < bits) {
+                        pending |= (packed[at++] & 0xFF) << pendingBits;
+                        pendingBits += 8;
+                    }
+                    moves[i] = pending & mask;
+                    pending >>>= bits;
+                    pendingBits -= bits;
+                }
+
+                variant = nextVariant;
+                result = RESULTS[resultIndex];
+                opponent = OPPONENTS[opponentIndex];
+                epochMillis = seconds * 1000;
+                moveCount = count;
+                return true;
+            } catch (EOFException e) {
+                System.err.println("Game archive ends part way through a game, ignoring it");
+                return false;
+            }
+        }
+
+        /**
+         * @return the board of the current game
+         */
+        public GameVariant variant() {
+            return variant;
+        }
+
+        /**
+         * @return who played 'O' in the current game
+         */
+        public Opponent opponent() {
+            return opponent;
+        }
+
+        /**
+         * @return how the current game ended
+         */
+        public Result result() {
+            return result;
+        }
+
+        /**
+         * @return when the current game ended, to the second
+         */
+        public long epochMillis() {
+            return epochMillis;
+        }
+
+        /**
+         * @return the number of moves in the current game
+         */
+        public int moveCount() {
+            return moveCount;
+        }
+
+        /**
+         * @param index the move number, starting at 0
+         * @return the cell played on that move
+         */
+        public int moveAt(int index) {
+            return moves[index];
+        }
+
+        /**
+         * @return a copy of the current game
+         */
+        public GameRecord toRecord() {
+            int[] copy = new int[moveCount];
+            System.arraycopy(moves, 0, copy, 0, moveCount);
+            return new GameRecord(epochMillis, variant, opponent, result, copy);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
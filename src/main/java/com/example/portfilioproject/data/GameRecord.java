@@ -0,0 +1,32 @@
+package com.example.portfilioproject.data;
+
+import com.example.portfilioproject.engine.GameVariant;
+
+/**
+ * One game as stored in a {@link GameArchive}: when it was played, on which board, against whom,
+ * how it ended, and every move in order.
+ *
+ * @param epochMillis when the game ended
+ * @param variant the board size and win length
+ * @param opponent who played 'O'
+ * @param result how the game ended
+ * @param moves the cells played, in order, starting with 'X'
+ */
+public record GameRecord(long epochMillis, GameVariant variant, Opponent opponent, Result result, int[] moves) {
+
+    /**
+     * Who played 'O'. 'X' is always a person. This is also the game mode statistics are kept for.
+     */
+    public enum Opponent {
+        PLAYER, CREATOR, PERFECT, MONTE_CARLO, RANDOM
+    }
+
+    /**
+     * How a game ended.
+     */
+    public enum Result {
+        X_WINS, O_WINS, DRAW,
+        // The game was left before it finished
+        ABANDONED
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.portfilioproject.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Imports the old text score log (scores_log.txt) into a {@link ScoreStore}.
+ *
+ * Each block in the text log holds the session's running scores at the time of an export, so the
+ * importer stores the difference from the previous block. When a score goes down, the game was
+ * restarted or the scores were reset in between, so the block's own scores are stored instead.
+ * Blocks that add nothing (for example exporting twice in a row) are skipped. Both timestamp formats
+ * that have been written to the log (24-hour and 12-hour with AM/PM) are understood.
+ *
+ * The whole log is parsed before anything is written, and the records are then committed together,
+ * so a log that fails to parse or a store that fails to grow leaves the store as it was, and the
+ * import can simply be run again.
+ *
+ * Usage: {@code ScoreLogImporter [log] [store]} (defaults to {@code scores_log.txt} and {@code scores.dat}).
+ */
+public final class ScoreLogImporter {
+
+    private static final String DEFAULT_LOG = "scores_log.txt";
+    private static final String DEFAULT_STORE = "scores.dat";
+
+    // Every timestamp format the text log has used
+    private static final List<DateTimeFormatter> TIMESTAMP_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm a", Locale.ENGLISH)
+    );
+
+    private ScoreLogImporter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path log = Path.of(args.length > 0 ? args[0] : DEFAULT_LOG);
+        Path storePath = Path.of(args.length > 1 ? args[1] : DEFAULT_STORE);
+        try (ScoreStore store = ScoreStore.open(storePath)) {
+            int imported = importLog(log, store);
+            System.out.printf("Imported %d records from %s into %s (totals: %s)%n", imported, log, storePath, store.totals());
+        }
+    }
+
+    /**
+     * Reads a text score log and appends its scores to the store, either all of them or none.
+     *
+     * @param log the text log to read
+     * @param store the store to append to
+     * @return the number of records appended
+     * @throws IOException if the log cannot be read or the store cannot be written
+     */
+    public static int importLog(Path log, ScoreStore store) throws IOException {
+        List<Block> blocks = parse(log);
+
+        // Hold the store so nobody else's commit can pick up part of the import
+        synchronized (store) {
+            try {
+                for (Block block : blocks) {
+                    store.add(block.epochMillis(), block.xWins(), block.oWins(), 0, ScoreStore.FLAG_IMPORTED);
+                }
+            } catch (IOException | RuntimeException e) {
+                store.rollback();
+                throw e;
+            }
+            store.commit(true);
+        }
+        return blocks.size();
+    }
+
+    /**
+     * Reads the whole text log without touching the store.
+     *
+     * @return the scores to store, in order
+     * @throws IOException if the log cannot be read or holds an invalid score or timestamp
+     */
+    private static List<Block> parse(Path log) throws IOException {
+        List<Block> blocks = new ArrayList<>();
+        int previousX = 0;
+        int previousO = 0;
+        Integer x = null;
+        Integer o = null;
+        int lineNumber = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(log)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.startsWith("X Wins:")) {
+                    x = parseCount(line, lineNumber);
+                } else if (line.startsWith("O Wins:")) {
+                    o = parseCount(line, lineNumber);
+                } else if (line.startsWith("Timestamp:") && x != null && o != null) {
+                    long time = parseTimestamp(line.substring("Timestamp:".length()).trim(), lineNumber);
+
+                    // Store what was added since the previous export, or everything after a restart or reset
+                    boolean restarted = x < previousX || o < previousO;
+                    int addedX = restarted ? x : x - previousX;
+                    int addedO = restarted ? o : o - previousO;
+                    if (addedX > 0 || addedO > 0) {
+                        blocks.add(new Block(time, addedX, addedO));
+                    }
+                    previousX = x;
+                    previousO = o;
+                    x = null;
+                    o = null;
+                }
+            }
+        }
+        return blocks;
+    }
+
+    private static int parseCount(String line, int lineNumber) throws IOException {
+        try {
+            return Integer.parseInt(line.substring(line.indexOf(':') + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid score on line " + lineNumber + ": " + line, e);
+        }
+    }
+
+    private static long parseTimestamp(String text, int lineNumber) throws IOException {
+        for (DateTimeFormatter format : TIMESTAMP_FORMATS) {
+            try {
+                return LocalDateTime.parse(text, format).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            } catch (DateTimeParseException e) {
+                // Try the next format
+            }
+        }
+        throw new IOException("Invalid timestamp on line " + lineNumber + ": " + text);
+    }
+
+    /**
+     * The scores added by one block of the text log.
+     *
+     * @param epochMillis when the block was exported
+     * @param xWins the games 'X' won since the previous block
+     * @param oWins the games 'O' won since the previous block
+     */
+    private record Block(long epochMillis, int xWins, int oWins) {
+    }
+}
@@ -0,0 +1,372 @@
+package com.example.portfilioproject.data;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent score history, stored as an append-only log of fixed-size binary records in a
+ * memory-mapped file.
+ *
+ * Each record holds a timestamp and the wins and draws added at that time (for example the games
+ * played since the last export), so the history can be added up over any period.
+ *
+ * File layout:
+ * - Header ({@link #HEADER_BYTES} bytes): the magic number, the format version, the record size,
+ *   and at {@link #COUNT_OFFSET} the number of committed records (a long).
+ * - Records ({@link #RECORD_BYTES} bytes each): the time in epoch milliseconds (long), X wins, O wins,
+ *   draws and flags (ints), and a CRC32 of the preceding 28 bytes.
+ *
+ * Writes are crash-safe: records are written and flushed to disk before the committed count is
+ * raised, so a crash part way through an append leaves the previous records intact and the partial
+ * records are simply overwritten next time. Several records can be added and then committed together
+ * (group commit), and a commit can skip flushing when some data loss on a power failure is acceptable.
+ * Records that fail their checksum when the file is opened are dropped along with everything after them,
+ * and so are records cut off by the file ending early.
+ *
+ * When the file is opened, the records are scanned once to build an in-memory index of totals
+ * per day, so totals over any range of dates are two binary searches, however long the history is.
+ */
+public final class ScoreStore implements AutoCloseable {
+
+    // File format
+    static final int MAGIC = 0x54545453; // "TTTS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int RECORD_BYTES = 32;
+    static final int COUNT_OFFSET = 16;
+    private static final int CHECKED_BYTES = RECORD_BYTES - Integer.BYTES;
+
+    // Record flags
+    public static final int FLAG_RESET = 1; // The scores were reset; the record's own counts start the new total
+    public static final int FLAG_IMPORTED = 2; // Imported from the old text log
+
+    // Number of records the file has room for when it is created; it doubles whenever it fills up
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // A single mapping is limited to 2 GB
+    private static final long MAX_RECORDS = (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES;
+
+    private final FileChannel channel;
+    private final ZoneId zone;
+    private final CRC32 crc = new CRC32();
+    private final DayIndex index = new DayIndex();
+    private MappedByteBuffer map;
+    private long capacity;
+    private long count; // Committed records
+    private long written; // Records written, including those not committed yet
+
+    // Totals since the last reset, which are the scores shown in the game
+    private long sinceResetX;
+    private long sinceResetO;
+    private long sinceResetDraws;
+
+    private ScoreStore(FileChannel channel, ZoneId zone) {
+        this.channel = channel;
+        this.zone = zone;
+    }
+
+    /**
+     * Opens a score store, creating the file if it does not exist yet.
+     * Days are worked out in the system time zone.
+     *
+     * @param path the store file
+     * @return the opened store
+     * @throws IOException if the file cannot be opened or is not a score store
+     */
+    public static ScoreStore open(Path path) throws IOException {
+        return open(path, ZoneId.systemDefault());
+    }
+
+    /**
+     * Opens a score store, creating the file if it does not exist yet.
+     *
+     * @param path the store file
+     * @param zone the time zone used to work out which day each record belongs to
+     * @return the opened store
+     * @throws IOException if the file cannot be opened or is not a score store
+     */
+    public static ScoreStore open(Path path, ZoneId zone) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        ScoreStore store = new ScoreStore(channel, zone);
+        try {
+            store.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            // New file: write the header
+            remap(INITIAL_CAPACITY);
+            map.putInt(0, MAGIC).putInt(Integer.BYTES, VERSION).putInt(2 * Integer.BYTES, RECORD_BYTES);
+            map.putLong(COUNT_OFFSET, 0);
+            map.force();
+            return;
+        }
+
+        if (size < HEADER_BYTES) {
+            throw new IOException("Not a valid score store");
+        }
+        remap((size - HEADER_BYTES) / RECORD_BYTES);
+        if (map.getInt(0) != MAGIC || map.getInt(Integer.BYTES) != VERSION || map.getInt(2 * Integer.BYTES) != RECORD_BYTES) {
+            throw new IOException("Not a valid score store");
+        }
+        long committed = map.getLong(COUNT_OFFSET);
+        if (committed < 0) {
+            throw new IOException("Score store is damaged (" + committed + " records committed)");
+        }
+        if (committed > capacity) {
+            // The file was cut short, so the records past its end are gone
+            System.err.println("Score store ends part way through its records, dropping " + (committed - capacity));
+            committed = capacity;
+            map.putLong(COUNT_OFFSET, committed);
+            map.force();
+        }
+
+        // Check every record and build the index, stopping at the first damaged record
+        for (long i = 0; i < committed; i++) {
+            int position = position(i);
+            if (checksum(position) != map.getInt(position + CHECKED_BYTES)) {
+                System.err.println("Score store record " + i + " is damaged, dropping it and " + (committed - i - 1) + " after it");
+                map.putLong(COUNT_OFFSET, i);
+                map.force();
+                break;
+            }
+            count = i + 1;
+            written = count;
+            addToTotals(map.getLong(position), map.getInt(position + 8), map.getInt(position + 12),
+                    map.getInt(position + 16), map.getInt(position + 20));
+        }
+    }
+
+    /**
+     * Appends a record and commits it to disk straight away.
+     *
+     * @param epochMillis when the scores were recorded
+     * @param xWins the number of games 'X' won
+     * @param oWins the number of games 'O' won
+     * @param draws the number of drawn games
+     * @param flags any of the FLAG_ constants, or 0
+     * @throws IOException if the file cannot be grown
+     */
+    public synchronized void append(long epochMillis, int xWins, int oWins, int draws, int flags) throws IOException {
+        add(epochMillis, xWins, oWins, draws, flags);
+        commit(true);
+    }
+
+    /**
+     * Writes a record after the existing ones without committing it. It is not counted in any totals,
+     * and is lost if the store is reopened, until {@link #commit(boolean)} is called.
+     *
+     * @param epochMillis when the scores were recorded
+     * @param xWins the number of games 'X' won
+     * @param oWins the number of games 'O' won
+     * @param draws the number of drawn games
+     * @param flags any of the FLAG_ constants, or 0
+     * @throws IOException if the file cannot be grown
+     */
+    public synchronized void add(long epochMillis, int xWins, int oWins, int draws, int flags) throws IOException {
+        if (written == capacity) {
+            if (capacity == MAX_RECORDS) {
+                throw new IOException("Score store is full");
+            }
+            remap(Math.min(Math.max(capacity * 2, INITIAL_CAPACITY), MAX_RECORDS));
+        }
+
+        int position = position(written);
+        map.putLong(position, epochMillis)
+                .putInt(position + 8, xWins)
+                .putInt(position + 12, oWins)
+                .putInt(position + 16, draws)
+                .putInt(position + 20, flags)
+                .putInt(position + 24, 0);
+        map.putInt(position + CHECKED_BYTES, checksum(position));
+        written++;
+    }
+
+    /**
+     * Throws away every record written since the last commit, so a batch that failed part way
+     * through is not committed later by somebody else's {@link #commit(boolean)}.
+     */
+    public synchronized void rollback() {
+        written = count;
+    }
+
+    /**
+     * Commits every record written since the last commit by raising the committed count.
+     *
+     * @param force true to flush the records to disk before raising the count and then flush the count,
+     *              so they survive a power failure; false to leave writing them out to the operating system
+     */
+    public synchronized void commit(boolean force) {
+        if (written == count) return;
+        if (force) {
+            map.force(position(count), (int) (written - count) * RECORD_BYTES);
+        }
+        map.putLong(COUNT_OFFSET, written);
+        if (force) {
+            map.force(COUNT_OFFSET, Long.BYTES);
+        }
+
+        // Add the new records to the totals
+        for (long i = count; i < written; i++) {
+            int position = position(i);
+            addToTotals(map.getLong(position), map.getInt(position + 8), map.getInt(position + 12),
+                    map.getInt(position + 16), map.getInt(position + 20));
+        }
+        count = written;
+    }
+
+    /**
+     * @return the totals over every record
+     */
+    public synchronized ScoreTotals totals() {
+        return index.totals(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Adds up the records between two dates.
+     *
+     * @param from the first day to include
+     * @param to the last day to include
+     * @return the totals over the range
+     */
+    public synchronized ScoreTotals totals(LocalDate from, LocalDate to) {
+        return index.totals(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * @return the totals since the scores were last reset, which are the scores shown in the game
+     */
+    public synchronized ScoreTotals totalsSinceReset() {
+        return new ScoreTotals(sinceResetX, sinceResetO, sinceResetDraws);
+    }
+
+    /**
+     * @return the number of committed records
+     */
+    public synchronized long size() {
+        return count;
+    }
+
+    /**
+     * Flushes committed records to disk and closes the file. Records that were never committed are dropped.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        map.force();
+        channel.close();
+    }
+
+    private void addToTotals(long epochMillis, int xWins, int oWins, int draws, int flags) {
+        index.add(Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate().toEpochDay(), xWins, oWins, draws);
+        if ((flags & FLAG_RESET) != 0) {
+            sinceResetX = 0;
+            sinceResetO = 0;
+            sinceResetDraws = 0;
+        }
+        sinceResetX += xWins;
+        sinceResetO += oWins;
+        sinceResetDraws += draws;
+    }
+
+    /**
+     * Maps the file with room for the given number of records, growing the file if needed.
+     */
+    private void remap(long records) throws IOException {
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + records * RECORD_BYTES);
+        capacity = records;
+    }
+
+    private static int position(long record) {
+        return (int) (HEADER_BYTES + record * RECORD_BYTES);
+    }
+
+    private int checksum(int position) {
+        crc.reset();
+        crc.update(map.slice(position, CHECKED_BYTES));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Running totals per day, kept sorted by day. Each entry holds the totals of every day up to and
+     * including its own, so the totals over a range are the difference between two entries.
+     */
+    private static final class DayIndex {
+        private long[] days = new long[64];
+        private long[] xWins = new long[64];
+        private long[] oWins = new long[64];
+        private long[] draws = new long[64];
+        private int size;
+
+        void add(long day, long x, long o, long d) {
+            int at = Arrays.binarySearch(days, 0, size, day);
+            if (at < 0) {
+                // New day (normally at the end, unless the clock went backwards)
+                at = -at - 1;
+                if (size == days.length) {
+                    grow();
+                }
+                int moved = size - at;
+                System.arraycopy(days, at, days, at + 1, moved);
+                System.arraycopy(xWins, at, xWins, at + 1, moved);
+                System.arraycopy(oWins, at, oWins, at + 1, moved);
+                System.arraycopy(draws, at, draws, at + 1, moved);
+                days[at] = day;
+                xWins[at] = at > 0 ? xWins[at - 1] : 0;
+                oWins[at] = at > 0 ? oWins[at - 1] : 0;
+                draws[at] = at > 0 ? draws[at - 1] : 0;
+                size++;
+            }
+
+            // Add the record to its own day and every later day's running total
+            for (int i = at; i < size; i++) {
+                xWins[i] += x;
+                oWins[i] += o;
+                draws[i] += d;
+            }
+        }
+
+        ScoreTotals totals(long fromDay, long toDay) {
+            int first = firstAtOrAfter(fromDay);
+            int last = firstAtOrAfter(toDay == Long.MAX_VALUE ? toDay : toDay + 1) - 1;
+            if (last < first) return ScoreTotals.ZERO;
+            long x = xWins[last];
+            long o = oWins[last];
+            long d = draws[last];
+            if (first > 0) {
+                x -= xWins[first - 1];
+                o -= oWins[first - 1];
+                d -= draws[first - 1];
+            }
+            return new ScoreTotals(x, o, d);
+        }
+
+        private int firstAtOrAfter(long day) {
+            if (day == Long.MAX_VALUE) return size;
+            int at = Arrays.binarySearch(days, 0, size, day);
+            return at >= 0 ? at : -at - 1;
+        }
+
+        private void grow() {
+            int length = days.length * 2;
+            days = Arrays.copyOf(days, length);
+            xWins = Arrays.copyOf(xWins, length);
+            oWins = Arrays.copyOf(oWins, length);
+            draws = Arrays.copyOf(draws, length);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.portfilioproject.data;
+
+/**
+ * Win and draw totals added up from the score store.
+ *
+ * @param xWins the number of games won by 'X'
+ * @param oWins the number of games won by 'O'
+ * @param draws the number of drawn games
+ */
+public record ScoreTotals(long xWins, long oWins, long draws) {
+
+    /**
+     * Totals with nothing counted.
+     */
+    public static final ScoreTotals ZERO = new ScoreTotals(0, 0, 0);
+
+    /**
+     * @return the number of games counted
+     */
+    public long games() {
+        return xWins + oWins + draws;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.portfilioproject.data;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+
+/**
+ * Writes score events to a {@link ScoreStore} on a background thread, so the game never waits on disk.
+ *
+ * Events go into a bounded queue. The writer thread takes everything waiting in the queue at once
+ * and commits it together (group commit), so a burst of events costs one flush instead of one each.
+ * If the queue is full the event is dropped with a message rather than holding up the caller.
+ *
+ * Other file work, such as writing the text score log, can be handed to the writer with
+ * {@link #submit(Runnable)}. It runs on the writer thread after every earlier event is committed.
+ *
+ * The store can also be opened by the writer thread itself, so opening and checking the file never
+ * holds up the caller either. Events queued before it is open simply wait in the queue.
+ */
+public final class ScoreWriter implements AutoCloseable {
+
+    /**
+     * How hard the writer tries to get events onto the disk.
+     */
+    public enum Durability {
+        /** Commit without flushing; the operating system writes the file out when it chooses. */
+        NONE,
+        /** Flush once for every batch of events taken from the queue. */
+        BATCH,
+        /** Flush after every event. */
+        EVERY_EVENT
+    }
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int MAX_BATCH = 256;
+
+    // How long closing waits for the queue to be written
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private record Event(long epochMillis, int xWins, int oWins, int draws, int flags, Runnable task) {
+    }
+
+    // Tells the writer thread to stop once everything before it is written
+    private static final Event STOP = new Event(0, 0, 0, 0, 0, null);
+
+    private final Callable<ScoreStore> opener;
+    private final Durability durability;
+    private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread thread;
+    private volatile boolean closed = false;
+    private long dropped = 0;
+
+    // Only used on the writer thread, once the opener has run
+    private ScoreStore store;
+
+    /**
+     * Starts a writer thread for a store. The writer owns the store from now on and closes it in {@link #close()}.
+     *
+     * @param store the store to write to, or null to only run submitted tasks
+     * @param durability how often to flush the store to disk
+     */
+    public ScoreWriter(ScoreStore store, Durability durability) {
+        this(() -> store, durability);
+    }
+
+    /**
+     * Starts a writer thread that opens its own store before writing anything. The writer owns the
+     * store from then on and closes it in {@link #close()}. If opening fails, the error is printed
+     * and the writer carries on with no store, only running submitted tasks.
+     *
+     * @param opener opens the store on the writer thread, and may return null for no store
+     * @param durability how often to flush the store to disk
+     */
+    public ScoreWriter(Callable<ScoreStore> opener, Durability durability) {
+        this.opener = opener;
+        this.durability = durability;
+        thread = Thread.ofPlatform().name("score-writer").daemon(true).start(this::run);
+    }
+
+    /**
+     * Queues a record for the store. Never waits.
+     *
+     * @param epochMillis when the scores were recorded
+     * @param xWins the number of games 'X' won
+     * @param oWins the number of games 'O' won
+     * @param draws the number of drawn games
+     * @param flags any of the ScoreStore FLAG_ constants, or 0
+     * @return true if the record was queued, false if the writer is closed or its queue is full
+     */
+    public boolean record(long epochMillis, int xWins, int oWins, int draws, int flags) {
+        return enqueue(new Event(epochMillis, xWins, oWins, draws, flags, null));
+    }
+
+    /**
+     * Queues a task to run on the writer thread once every earlier record is committed. Never waits.
+     *
+     * @param task the file work to run
+     * @return true if the task was queued, false if the writer is closed or its queue is full
+     */
+    public boolean submit(Runnable task) {
+        return enqueue(new Event(0, 0, 0, 0, 0, task));
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full
+     */
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Writes everything still in the queue, stops the writer thread and closes the store.
+     * This is the only method that waits, for at most a few seconds.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            queue.put(STOP);
+            thread.join(CLOSE_TIMEOUT_MILLIS);
+            if (thread.isAlive()) {
+                System.err.println("Score writer did not finish within " + CLOSE_TIMEOUT_MILLIS + " ms");
+            }
+            if (getDropped() > 0) {
+                System.err.println("Score writer dropped " + getDropped() + " events");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean enqueue(Event event) {
+        if (closed) return false;
+        if (queue.offer(event)) return true;
+        long total;
+        synchronized (this) {
+            total = ++dropped;
+        }
+        if (total == 1) {
+            System.err.println("Score writer queue is full, dropping events");
+        }
+        return false;
+    }
+
+    private void run() {
+        try {
+            store = opener.call();
+        } catch (Exception e) {
+            System.err.println("Error opening score history: " + e.getMessage());
+        }
+
+        List<Event> batch = new ArrayList<>(MAX_BATCH);
+        boolean stopping = false;
+        while (!stopping) {
+            // Wait for an event, then take everything else that is waiting with it
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            for (Event event : batch) {
+                if (event == STOP) {
+                    stopping = true;
+                } else if (event.task() != null) {
+                    // Tasks see every record queued before them
+                    commit();
+                    runTask(event.task());
+                } else {
+                    write(event);
+                }
+            }
+            commit();
+            batch.clear();
+        }
+
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                System.err.println("Error closing score history: " + e.getMessage());
+            }
+        }
+    }
+
+    private void write(Event event) {
+        if (store == null) return;
+        try {
+            store.add(event.epochMillis(), event.xWins(), event.oWins(), event.draws(), event.flags());
+            if (durability == Durability.EVERY_EVENT) {
+                store.commit(true);
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving score history: " + e.getMessage());
+        }
+    }
+
+    private void commit() {
+        if (store == null) return;
+        store.commit(durability != Durability.NONE);
+    }
+
+    private static void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            System.err.println("Error in score writer task: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.example.portfilioproject.engine;
+
+/**
+ * Headless Tic-Tac-Toe board stored as two 9-bit masks, one for each player.
+ *
+ * Cell indexes run from 0 to 8 (row * 3 + col), and bit {@code i} of a mask is set when that
+ * player owns cell {@code i}. Player values match the ones the game has always used for its
+ * board: 0 for 'X', 1 for 'O' and -1 for an empty cell.
+ *
+ * Making and undoing moves only flips bits, so a single board can be reused for any number of
+ * simulated games without allocating. The board also keeps a {@link Zobrist} hash of the position,
+ * updated with one XOR per move.
+ *
+ * It also keeps a threat index, updated on every move for just the 2 to 4 lines through the cell:
+ * how many marks each player has on each line, and which lines are one move from a win (two marks
+ * and no opponent mark) or one move from a threat (one mark and no opponent mark). Winning cells,
+ * blocks and forks are then a table lookup instead of trying every empty cell against every line.
+ */
+public final class BitBoard {
+
+    // Player values
+    public static final int EMPTY = -1;
+    public static final int X = 0;
+    public static final int O = 1;
+
+    // Board dimensions
+    public static final int SIZE = 3;
+    public static final int CELLS = SIZE * SIZE;
+    public static final int FULL_MASK = (1 << CELLS) - 1;
+
+    // The 8 winning lines: 3 rows, 3 columns and 2 diagonals
+    private static final int[] WIN_MASKS = {
+            0b000_000_111, 0b000_111_000, 0b111_000_000,
+            0b001_001_001, 0b010_010_010, 0b100_100_100,
+            0b100_010_001, 0b001_010_100
+    };
+
+    // Line cell masks for every set of lines (bit i = WIN_MASKS[i]), and the cells in at least two of them
+    private static final int[] LINE_CELLS = new int[1 << WIN_MASKS.length];
+    private static final int[] SHARED_CELLS = new int[1 << WIN_MASKS.length];
+
+    // Amount added to the line counts when each player plays on each cell: LINE_UNITS[player][cell]
+    private static final int[][] LINE_UNITS = new int[2][CELLS];
+
+    // Threat bits of one line for each 4-bit line count, spread to bits 0, 8, 16 and 24
+    private static final int[] LINE_THREATS = new int[16];
+    private static final int LINE_THREAT_MASK = 0x01010101;
+
+    // Line count values (X count in bits 0-1, O count in bits 2-3)
+    private static final int X_TWO = 2;
+    private static final int O_TWO = 2 << 2;
+    private static final int X_ONE = 1;
+    private static final int O_ONE = 1 << 2;
+
+    static {
+        for (int lines = 0; lines < LINE_CELLS.length; lines++) {
+            int covered = 0;
+            for (int line = 0; line < WIN_MASKS.length; line++) {
+                if ((lines & (1 << line)) == 0) continue;
+                SHARED_CELLS[lines] |= covered & WIN_MASKS[line];
+                covered |= WIN_MASKS[line];
+            }
+            LINE_CELLS[lines] = covered;
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            for (int line = 0; line < WIN_MASKS.length; line++) {
+                if ((WIN_MASKS[line] & (1 << cell)) != 0) {
+                    LINE_UNITS[X][cell] += X_ONE << (line * 4);
+                    LINE_UNITS[O][cell] += O_ONE << (line * 4);
+                }
+            }
+        }
+        LINE_THREATS[X_TWO] = 1;
+        LINE_THREATS[O_TWO] = 1 << 8;
+        LINE_THREATS[X_ONE] = 1 << 16;
+        LINE_THREATS[O_ONE] = 1 << 24;
+    }
+
+    // Board state
+    private int xMask;
+    private int oMask;
+    private long hash;
+
+    // Threat index: 4 bits of marks per line (X count in the low 2 bits, O count in the high 2),
+    // and the lines where X and O have two marks (bytes 0 and 1) or one mark (bytes 2 and 3) alone
+    private int lineCounts;
+    private int threatLines;
+
+    /**
+     * Creates an empty board.
+     */
+    public BitBoard() {
+    }
+
+    /**
+     * Creates a board from two existing player masks.
+     *
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @throws IllegalArgumentException if the masks overlap or use bits outside the board
+     */
+    public BitBoard(int xMask, int oMask) {
+        load(xMask, oMask);
+    }
+
+    /**
+     * Replaces the board contents with the given player masks.
+     *
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @throws IllegalArgumentException if the masks overlap or use bits outside the board
+     */
+    public void load(int xMask, int oMask) {
+        if ((xMask & oMask) != 0 || ((xMask | oMask) & ~FULL_MASK) != 0) {
+            throw new IllegalArgumentException("Invalid board masks: " + xMask + ", " + oMask);
+        }
+        this.xMask = xMask;
+        this.oMask = oMask;
+        this.hash = Zobrist.hash(xMask, oMask);
+        lineCounts = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if ((xMask & (1 << cell)) != 0) lineCounts += LINE_UNITS[X][cell];
+            if ((oMask & (1 << cell)) != 0) lineCounts += LINE_UNITS[O][cell];
+        }
+        threatLines = 0;
+        updateThreats(FULL_MASK);
+    }
+
+    /**
+     * Clears every cell so the board can be reused for a new game.
+     */
+    public void reset() {
+        xMask = 0;
+        oMask = 0;
+        hash = 0;
+        lineCounts = 0;
+        threatLines = 0;
+    }
+
+    /**
+     * Places the player's mark on the given cell.
+     *
+     * @param cell the cell index (0-8)
+     * @param player the player making the move (0 for 'X', 1 for 'O')
+     * @throws IllegalArgumentException if the cell is not on the board
+     * @throws IllegalStateException if the cell is already taken
+     */
+    public void play(int cell, int player) {
+        if (cell < 0 || cell >= CELLS) {
+            throw new IllegalArgumentException("Invalid cell: " + cell);
+        }
+        int bit = 1 << cell;
+        if (((xMask | oMask) & bit) != 0) {
+            throw new IllegalStateException("Cell " + cell + " is already taken");
+        }
+        if (player == X) {
+            xMask |= bit;
+        } else {
+            oMask |= bit;
+        }
+        hash ^= Zobrist.key(player, cell);
+        lineCounts += LINE_UNITS[player][cell];
+        updateThreats(bit);
+    }
+
+    /**
+     * Removes whichever mark is on the given cell.
+     *
+     * @param cell the cell index (0-8)
+     */
+    public void undo(int cell) {
+        int bit = 1 << cell;
+        if ((xMask & bit) != 0) {
+            hash ^= Zobrist.key(X, cell);
+            lineCounts -= LINE_UNITS[X][cell];
+        } else if ((oMask & bit) != 0) {
+            hash ^= Zobrist.key(O, cell);
+            lineCounts -= LINE_UNITS[O][cell];
+        } else {
+            return;
+        }
+        xMask &= ~bit;
+        oMask &= ~bit;
+        updateThreats(bit);
+    }
+
+    /**
+     * Recomputes the threat bits of every line that touches one of the given cells.
+     */
+    private void updateThreats(int cells) {
+        for (int line = 0; line < WIN_MASKS.length; line++) {
+            if ((WIN_MASKS[line] & cells) == 0) continue;
+            int count = (lineCounts >>> (line * 4)) & 0xF;
+            threatLines = (threatLines & ~(LINE_THREAT_MASK << line)) | (LINE_THREATS[count] << line);
+        }
+    }
+
+    /**
+     * Checks if the player owns a complete row, column or diagonal.
+     *
+     * @param player the player to check (0 for 'X', 1 for 'O')
+     * @return true if the player has won, otherwise false
+     */
+    public boolean hasWon(int player) {
+        return isWin(player == X ? xMask : oMask);
+    }
+
+    /**
+     * Checks whether the board is full or not.
+     *
+     * @return true if every cell is taken, otherwise false
+     */
+    public boolean isFull() {
+        return (xMask | oMask) == FULL_MASK;
+    }
+
+    /**
+     * Checks if the game is over, either by a win for either player or by a full board.
+     *
+     * @return true if no more moves should be played
+     */
+    public boolean isGameOver() {
+        return isWin(xMask) || isWin(oMask) || isFull();
+    }
+
+    /**
+     * Returns the player on the given cell.
+     *
+     * @param cell the cell index (0-8)
+     * @return 0 for 'X', 1 for 'O', or -1 if the cell is empty
+     */
+    public int get(int cell) {
+        int bit = 1 << cell;
+        if ((xMask & bit) != 0) return X;
+        if ((oMask & bit) != 0) return O;
+        return EMPTY;
+    }
+
+    /**
+     * Checks if the given cell is free.
+     *
+     * @param cell the cell index (0-8)
+     * @return true if nobody has played there yet
+     */
+    public boolean isEmpty(int cell) {
+        return ((xMask | oMask) & (1 << cell)) == 0;
+    }
+
+    /**
+     * @param player the player (0 for 'X', 1 for 'O')
+     * @return the mask of cells owned by the player
+     */
+    public int mask(int player) {
+        return player == X ? xMask : oMask;
+    }
+
+    /**
+     * Finds the cells where the player would complete a line. These are the player's winning moves,
+     * and the opponent's blocks.
+     *
+     * Only lines that still have an empty cell are looked at, so on a position the player has already
+     * won, the completed line adds nothing here; check {@link #hasWon(int)} first.
+     *
+     * @param player the player (0 for 'X', 1 for 'O')
+     * @return the mask of empty cells that win for the player
+     */
+    public int winningCells(int player) {
+        return LINE_CELLS[(threatLines >>> (player * 8)) & 0xFF] & emptyMask();
+    }
+
+    /**
+     * Finds the cells where the player would make two lines that each need one more mark (a fork).
+     *
+     * @param player the player (0 for 'X', 1 for 'O')
+     * @return the mask of empty cells that fork for the player
+     */
+    public int forkCells(int player) {
+        return SHARED_CELLS[(threatLines >>> (16 + player * 8)) & 0xFF] & emptyMask();
+    }
+
+    /**
+     * @param line the line index (0-7: rows, columns, then diagonals)
+     * @param player the player (0 for 'X', 1 for 'O')
+     * @return the number of the player's marks on the line
+     */
+    public int lineCount(int line, int player) {
+        return (lineCounts >>> (line * 4 + player * 2)) & 0b11;
+    }
+
+    /**
+     * @return the Zobrist hash of the position
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * @return the mask of cells that are still free
+     */
+    public int emptyMask() {
+        return ~(xMask | oMask) & FULL_MASK;
+    }
+
+    /**
+     * @return the number of marks on the board
+     */
+    public int moveCount() {
+        return Integer.bitCount(xMask | oMask);
+    }
+
+    /**
+     * Works out whose turn it is, assuming 'X' always moves first.
+     *
+     * @return 0 if it is 'X' to move, 1 if it is 'O' to move
+     */
+    public int sideToMove() {
+        return Integer.bitCount(xMask) > Integer.bitCount(oMask) ? O : X;
+    }
+
+    /**
+     * Checks a player mask against the 8 winning lines.
+     *
+     * @param mask the cells owned by one player
+     * @return true if the mask contains a complete line
+     */
+    public static boolean isWin(int mask) {
+        for (int line : WIN_MASKS) {
+            if ((mask & line) == line) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param row the row index (0-2)
+     * @param col the column index (0-2)
+     * @return the cell index for the row and column
+     */
+    public static int cell(int row, int col) {
+        return row * SIZE + col;
+    }
+
+    /**
+     * @param cell the cell index (0-8)
+     * @return the row of the cell
+     */
+    public static int row(int cell) {
+        return cell / SIZE;
+    }
+
+    /**
+     * @param cell the cell index (0-8)
+     * @return the column of the cell
+     */
+    public static int col(int cell) {
+        return cell % SIZE;
+    }
+
+    /**
+     * @param player the player (0 for 'X', 1 for 'O')
+     * @return the other player
+     */
+    public static int opponent(int player) {
+        return player ^ 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(CELLS + SIZE);
+        for (int cell = 0; cell < CELLS; cell++) {
+            int player = get(cell);
+            sb.append(player == X ? 'X' : player == O ? 'O' : '.');
+            if (col(cell) == SIZE - 1) sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.portfilioproject.engine;
+
+/**
+ * The board sizes and win lengths that can be played.
+ */
+public enum GameVariant {
+    CLASSIC("3x3", 3, 3),
+    FOUR_IN_A_ROW("10x10 Four", 10, 4),
+    GOMOKU("15x15 Gomoku", 15, 5);
+
+    private final String displayName;
+    private final int size;
+    private final int winLength;
+
+    GameVariant(String displayName, int size, int winLength) {
+        this.displayName = displayName;
+        this.size = size;
+        this.winLength = winLength;
+    }
+
+    /**
+     * @return the name shown in the menu
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return the number of rows (and columns)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return how many marks in a row are needed to win
+     */
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /**
+     * @return a new empty board for this variant
+     */
+    public GridBoard newBoard() {
+        return new GridBoard(size, winLength);
+    }
+
+    /**
+     * @return the variant that comes after this one when cycling through them in the menu
+     */
+    public GameVariant next() {
+        GameVariant[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.portfilioproject.engine;
+
+import java.util.Arrays;
+
+/**
+ * Headless N x N board where a player wins by getting K marks in a row, for variants such as
+ * 15x15 five-in-a-row (gomoku) or 10x10 four-in-a-row. The classic game is N = 3, K = 3.
+ *
+ * Cells are stored in a flat byte array indexed by row * N + col, holding the same player values
+ * as {@link BitBoard} (0 for 'X', 1 for 'O', -1 for empty). A 19x19 board only takes 361 bytes.
+ *
+ * Win checking is incremental: after a move, only the 4 directions running through that cell
+ * are scanned, so the cost depends on K rather than on the size of the board. The board also keeps
+ * a {@link Zobrist} hash of the position, updated with one XOR per move.
+ */
+public final class GridBoard {
+
+    // Row and column steps for the 4 directions: horizontal, vertical and both diagonals
+    private static final int[] DIR_ROW = {0, 1, 1, 1};
+    private static final int[] DIR_COL = {1, 0, 1, -1};
+
+    // Board settings
+    private final int size;
+    private final int winLength;
+
+    // Board state
+    private final byte[] cells;
+    private final int[] moves;
+    private int moveCount;
+    private int winner = BitBoard.EMPTY;
+    private long hash;
+
+    /**
+     * Creates an empty board.
+     *
+     * @param size the number of rows and columns
+     * @param winLength how many marks in a row are needed to win
+     * @throws IllegalArgumentException if the win length does not fit on the board
+     */
+    public GridBoard(int size, int winLength) {
+        if (size < 1 || winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("Invalid board: " + size + "x" + size + ", " + winLength + " in a row");
+        }
+        this.size = size;
+        this.winLength = winLength;
+        this.cells = new byte[size * size];
+        this.moves = new int[size * size];
+        Arrays.fill(cells, (byte) BitBoard.EMPTY);
+    }
+
+    /**
+     * Creates an independent copy of another board, including its move history.
+     *
+     * @param other the board to copy
+     */
+    public GridBoard(GridBoard other) {
+        this.size = other.size;
+        this.winLength = other.winLength;
+        this.cells = other.cells.clone();
+        this.moves = other.moves.clone();
+        this.moveCount = other.moveCount;
+        this.winner = other.winner;
+        this.hash = other.hash;
+    }
+
+    /**
+     * Clears every cell so the board can be reused for a new game.
+     */
+    public void reset() {
+        Arrays.fill(cells, (byte) BitBoard.EMPTY);
+        moveCount = 0;
+        winner = BitBoard.EMPTY;
+        hash = 0;
+    }
+
+    /**
+     * Places the player's mark on the given cell and checks if it wins the game.
+     *
+     * @param cell the cell index (row * size + col)
+     * @param player the player making the move (0 for 'X', 1 for 'O')
+     * @return true if this move wins the game
+     * @throws IllegalStateException if the cell is already taken or the game is over
+     */
+    public boolean play(int cell, int player) {
+        if (cells[cell] != BitBoard.EMPTY) {
+            throw new IllegalStateException("Cell " + cell + " is already taken");
+        }
+        if (winner != BitBoard.EMPTY) {
+            throw new IllegalStateException("The game is already over");
+        }
+        cells[cell] = (byte) player;
+        moves[moveCount++] = cell;
+        hash ^= Zobrist.key(player, cell);
+        if (isWinningLine(cell, player)) {
+            winner = player;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Takes back the last move.
+     *
+     * @return the cell that was cleared
+     * @throws IllegalStateException if no moves have been made
+     */
+    public int undo() {
+        if (moveCount == 0) {
+            throw new IllegalStateException("No moves to undo");
+        }
+        int cell = moves[--moveCount];
+        hash ^= Zobrist.key(cells[cell], cell);
+        cells[cell] = (byte) BitBoard.EMPTY;
+        winner = BitBoard.EMPTY;
+        return cell;
+    }
+
+    /**
+     * Checks if the player would have K in a row through the cell if they owned it.
+     * Only the 4 lines through the cell are scanned.
+     *
+     * @param cell the cell index (row * size + col)
+     * @param player the player to check (0 for 'X', 1 for 'O')
+     * @return true if the player has (or would have) K in a row through the cell
+     */
+    public boolean isWinningLine(int cell, int player) {
+        int row = cell / size;
+        int col = cell % size;
+        for (int d = 0; d < DIR_ROW.length; d++) {
+            int count = 1
+                    + countDirection(row, col, DIR_ROW[d], DIR_COL[d], player)
+                    + countDirection(row, col, -DIR_ROW[d], -DIR_COL[d], player);
+            if (count >= winLength) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts how many of the player's marks follow the cell in one direction, stopping at
+     * the first other cell or once K - 1 marks have been found.
+     */
+    private int countDirection(int row, int col, int dRow, int dCol, int player) {
+        int count = 0;
+        int r = row + dRow;
+        int c = col + dCol;
+        while (count < winLength - 1 && r >= 0 && r < size && c >= 0 && c < size
+                && cells[r * size + c] == player) {
+            count++;
+            r += dRow;
+            c += dCol;
+        }
+        return count;
+    }
+
+    /**
+     * @return the winning player (0 for 'X', 1 for 'O'), or -1 if nobody has won
+     */
+    public int winner() {
+        return winner;
+    }
+
+    /**
+     * @return true if every cell is taken
+     */
+    public boolean isFull() {
+        return moveCount == cells.length;
+    }
+
+    /**
+     * @return true if somebody has won or the board is full
+     */
+    public boolean isGameOver() {
+        return winner != BitBoard.EMPTY || isFull();
+    }
+
+    /**
+     * @param cell the cell index (row * size + col)
+     * @return 0 for 'X', 1 for 'O', or -1 if the cell is empty
+     */
+    public int get(int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * @param cell the cell index (row * size + col)
+     * @return true if nobody has played there yet
+     */
+    public boolean isEmpty(int cell) {
+        return cells[cell] == BitBoard.EMPTY;
+    }
+
+    /**
+     * @return the number of rows (and columns)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return how many marks in a row are needed to win
+     */
+    public int winLength() {
+        return winLength;
+    }
+
+    /**
+     * @return the total number of cells
+     */
+    public int cellCount() {
+        return cells.length;
+    }
+
+    /**
+     * @return the number of marks on the board
+     */
+    public int moveCount() {
+        return moveCount;
+    }
+
+    /**
+     * @return the Zobrist hash of the position
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * @param index the move number, starting at 0
+     * @return the cell played on that move
+     */
+    public int moveAt(int index) {
+        return moves[index];
+    }
+
+    /**
+     * @return the cell of the last move, or -1 if no moves have been made
+     */
+    public int lastMove() {
+        return moveCount == 0 ? -1 : moves[moveCount - 1];
+    }
+
+    /**
+     * Works out whose turn it is, assuming 'X' always moves first.
+     *
+     * @return 0 if it is 'X' to move, 1 if it is 'O' to move
+     */
+    public int sideToMove() {
+        return moveCount % 2 == 0 ? BitBoard.X : BitBoard.O;
+    }
+
+    /**
+     * Builds a bit mask of the player's cells, for handing small boards to the {@link BitBoard} code.
+     *
+     * @param player the player (0 for 'X', 1 for 'O')
+     * @return the mask of cells owned by the player
+     * @throws IllegalStateException if the board has more than 32 cells
+     */
+    public int mask(int player) {
+        if (cells.length > Integer.SIZE) {
+            throw new IllegalStateException("Board is too large for a bit mask");
+        }
+        int mask = 0;
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] == player) mask |= 1 << cell;
+        }
+        return mask;
+    }
+
+    /**
+     * @param row the row index
+     * @param col the column index
+     * @return the cell index for the row and column
+     */
+    public int cell(int row, int col) {
+        return row * size + col;
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.portfilioproject.engine;
+
+/**
+ * The 8 rotations and reflections of the 3x3 board.
+ *
+ * Positions that only differ by one of these transforms play exactly the same way, so caches and
+ * tables can store a single canonical copy of each position instead of all 8 versions.
+ *
+ * The canonical copy of a position, on the 3x3 board or any N x N board, is the version with the
+ * smallest {@link Zobrist} hash (compared as an unsigned number), so a {@link BitBoard} and a 3x3
+ * {@link GridBoard} holding the same position get the same canonical hash and transform. A cache
+ * that stores moves for the canonical copy maps them back to the real board with
+ * {@link #fromCanonical(int, int)} (or {@link #fromCanonical(int, int, int)} on an N x N board),
+ * using the transform from {@link #canonicalTransform(int, int)}.
+ */
+public final class Symmetry {
+
+    // Number of board symmetries (identity, 3 rotations, 4 reflections)
+    public static final int COUNT = 8;
+
+    // For each transform, the cell each original cell is moved to
+    private static final int[][] CELL_MAP = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8}, // identity
+            {2, 5, 8, 1, 4, 7, 0, 3, 6}, // rotate 90
+            {8, 7, 6, 5, 4, 3, 2, 1, 0}, // rotate 180
+            {6, 3, 0, 7, 4, 1, 8, 5, 2}, // rotate 270
+            {2, 1, 0, 5, 4, 3, 8, 7, 6}, // mirror left-right
+            {6, 7, 8, 3, 4, 5, 0, 1, 2}, // mirror top-bottom
+            {0, 3, 6, 1, 4, 7, 2, 5, 8}, // mirror main diagonal
+            {8, 5, 2, 7, 4, 1, 6, 3, 0}  // mirror anti-diagonal
+    };
+
+    // Every 9-bit mask already transformed by every symmetry
+    private static final short[][] MASK_MAP = new short[COUNT][1 << BitBoard.CELLS];
+
+    // For each transform, the transform that undoes it
+    private static final int[] INVERSE = new int[COUNT];
+
+    static {
+        for (int t = 0; t < COUNT; t++) {
+            for (int u = 0; u < COUNT; u++) {
+                boolean undoes = true;
+                for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+                    if (CELL_MAP[u][CELL_MAP[t][cell]] != cell) undoes = false;
+                }
+                if (undoes) INVERSE[t] = u;
+            }
+        }
+        for (int t = 0; t < COUNT; t++) {
+            for (int mask = 0; mask <= BitBoard.FULL_MASK; mask++) {
+                int mapped = 0;
+                for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+                    if ((mask & (1 << cell)) != 0) mapped |= 1 << CELL_MAP[t][cell];
+                }
+                MASK_MAP[t][mask] = (short) mapped;
+            }
+        }
+    }
+
+    private Symmetry() {
+    }
+
+    /**
+     * @param mask a 9-bit player mask
+     * @param transform the symmetry to apply (0-7)
+     * @return the mask after the transform
+     */
+    public static int transform(int mask, int transform) {
+        return MASK_MAP[transform][mask];
+    }
+
+    /**
+     * @param cell a cell index (0-8)
+     * @param transform the symmetry to apply (0-7)
+     * @return the cell the transform moves it to
+     */
+    public static int transformCell(int cell, int transform) {
+        return CELL_MAP[transform][cell];
+    }
+
+    /**
+     * Applies a symmetry to a cell of any N x N board. On the 3x3 board this gives the same
+     * result as {@link #transformCell(int, int)}.
+     *
+     * @param cell the cell index (row * size + col)
+     * @param size the number of rows and columns
+     * @param transform the symmetry to apply (0-7)
+     * @return the cell the transform moves it to
+     */
+    public static int transformCell(int cell, int size, int transform) {
+        int row = cell / size;
+        int col = cell % size;
+        int last = size - 1;
+        return switch (transform) {
+            case 0 -> cell;
+            case 1 -> col * size + (last - row);
+            case 2 -> (last - row) * size + (last - col);
+            case 3 -> (last - col) * size + row;
+            case 4 -> row * size + (last - col);
+            case 5 -> (last - row) * size + col;
+            case 6 -> col * size + row;
+            case 7 -> (last - col) * size + (last - row);
+            default -> throw new IllegalArgumentException("Invalid transform: " + transform);
+        };
+    }
+
+    /**
+     * @param transform a symmetry (0-7)
+     * @return the symmetry that undoes it
+     */
+    public static int inverse(int transform) {
+        return INVERSE[transform];
+    }
+
+    /**
+     * Maps a move on the real board to the same move on the canonical board.
+     *
+     * @param cell the cell on the real board (0-8)
+     * @param transform the real board's canonical transform
+     * @return the cell on the canonical board
+     */
+    public static int toCanonical(int cell, int transform) {
+        return CELL_MAP[transform][cell];
+    }
+
+    /**
+     * Maps a move on the canonical board back to the real board.
+     *
+     * @param cell the cell on the canonical board (0-8)
+     * @param transform the real board's canonical transform
+     * @return the cell on the real board
+     */
+    public static int fromCanonical(int cell, int transform) {
+        return CELL_MAP[INVERSE[transform]][cell];
+    }
+
+    /**
+     * Maps a move on a real N x N board to the same move on the canonical board.
+     *
+     * @param cell the cell on the real board (row * size + col)
+     * @param size the number of rows and columns
+     * @param transform the real board's canonical transform
+     * @return the cell on the canonical board
+     */
+    public static int toCanonical(int cell, int size, int transform) {
+        return transformCell(cell, size, transform);
+    }
+
+    /**
+     * Maps a move on a canonical N x N board back to the real board.
+     *
+     * @param cell the cell on the canonical board (row * size + col)
+     * @param size the number of rows and columns
+     * @param transform the real board's canonical transform
+     * @return the cell on the real board
+     */
+    public static int fromCanonical(int cell, int size, int transform) {
+        return transformCell(cell, size, INVERSE[transform]);
+    }
+
+    /**
+     * Packs both player masks into one 18-bit key, 'X' in the low bits and 'O' in the high bits.
+     *
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @return the board key
+     */
+    public static int key(int xMask, int oMask) {
+        return (oMask << BitBoard.CELLS) | xMask;
+    }
+
+    /**
+     * Finds the smallest key among all 8 symmetric versions of the position, so equivalent
+     * positions share the same key. This is a compact 18-bit id for tables indexed by position;
+     * the version it comes from is not always the canonical copy.
+     *
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @return the smallest 18-bit board key of the position's versions
+     */
+    public static int canonicalKey(int xMask, int oMask) {
+        int best = key(xMask, oMask);
+        for (int t = 1; t < COUNT; t++) {
+            int candidate = key(MASK_MAP[t][xMask], MASK_MAP[t][oMask]);
+            if (candidate < best) best = candidate;
+        }
+        return best;
+    }
+
+    /**
+     * @param board the board to look at
+     * @return the smallest 18-bit board key of the board's versions
+     */
+    public static int canonicalKey(BitBoard board) {
+        return canonicalKey(board.mask(BitBoard.X), board.mask(BitBoard.O));
+    }
+
+    /**
+     * Finds the symmetry that turns the position into its canonical copy (the smallest hash).
+     * When several do, the first one is used.
+     *
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @return the transform (0-7)
+     */
+    public static int canonicalTransform(int xMask, int oMask) {
+        long best = Zobrist.hash(xMask, oMask);
+        int bestTransform = 0;
+        for (int t = 1; t < COUNT; t++) {
+            long candidate = Zobrist.hash(MASK_MAP[t][xMask], MASK_MAP[t][oMask]);
+            if (Long.compareUnsigned(candidate, best) < 0) {
+                best = candidate;
+                bestTransform = t;
+            }
+        }
+        return bestTransform;
+    }
+
+    /**
+     * Finds the symmetry that turns an N x N position into its canonical copy (the smallest hash).
+     * When several do, the first one is used. On a 3x3 board this gives the same result as
+     * {@link #canonicalTransform(int, int)}.
+     *
+     * @param board the board to look at
+     * @return the transform (0-7)
+     */
+    public static int canonicalTransform(GridBoard board) {
+        long best = transformedHash(board, 0);
+        int bestTransform = 0;
+        for (int t = 1; t < COUNT; t++) {
+            long candidate = transformedHash(board, t);
+            if (Long.compareUnsigned(candidate, best) < 0) {
+                best = candidate;
+                bestTransform = t;
+            }
+        }
+        return bestTransform;
+    }
+
+    /**
+     * Works out the {@link Zobrist} hash of the canonical copy of the position: the smallest of the
+     * hashes of its 8 versions, so all 8 versions of a position share the same hash.
+     *
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @return the canonical hash
+     */
+    public static long canonicalHash(int xMask, int oMask) {
+        long best = Zobrist.hash(xMask, oMask);
+        for (int t = 1; t < COUNT; t++) {
+            long candidate = Zobrist.hash(MASK_MAP[t][xMask], MASK_MAP[t][oMask]);
+            if (Long.compareUnsigned(candidate, best) < 0) best = candidate;
+        }
+        return best;
+    }
+
+    /**
+     * @param board the board to look at
+     * @return the canonical hash of the board
+     */
+    public static long canonicalHash(BitBoard board) {
+        return canonicalHash(board.mask(BitBoard.X), board.mask(BitBoard.O));
+    }
+
+    /**
+     * Works out the canonical hash of a position on any N x N board, the same way as
+     * {@link #canonicalHash(int, int)}, so a 3x3 board gets the same value as a {@link BitBoard}
+     * holding the position. This takes time in proportion to the number of marks, so it suits
+     * lookups at the root of a search rather than inner loops.
+     *
+     * @param board the board to look at
+     * @return the canonical hash
+     */
+    public static long canonicalHash(GridBoard board) {
+        long best = transformedHash(board, 0);
+        for (int t = 1; t < COUNT; t++) {
+            long candidate = transformedHash(board, t);
+            if (Long.compareUnsigned(candidate, best) < 0) best = candidate;
+        }
+        return best;
+    }
+
+    /**
+     * @return the {@link Zobrist} hash the board would have after the transform
+     */
+    private static long transformedHash(GridBoard board, int transform) {
+        if (transform == 0) return board.hash();
+        long hash = 0;
+        for (int i = 0; i < board.moveCount(); i++) {
+            int cell = board.moveAt(i);
+            hash ^= Zobrist.key(board.get(cell), transformCell(cell, board.size(), transform));
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.portfilioproject.engine;
+
+/**
+ * Zobrist keys for hashing board positions.
+ *
+ * Every (player, cell) pair has a fixed random 64-bit key, and a position's hash is the XOR of the
+ * keys of every mark on the board. Playing or undoing a move changes the hash by XOR-ing a single
+ * key, so boards can keep their hash up to date as they go. The keys are worked out from a fixed
+ * seed and the cell index alone, so hashes are the same in every run and can be stored, and every
+ * board size gets keys, however large.
+ *
+ * Keys for boards up to 19x19 are kept in a table. Cells past that work their key out on each call,
+ * which is a few multiplications. For the 3x3 board the hash of every possible player mask is also
+ * precomputed, so the hash of any position (including any of its rotations or reflections) is two
+ * table reads.
+ */
+public final class Zobrist {
+
+    // Cells whose keys are kept in a table (the 19x19 go board)
+    private static final int TABLE_CELLS = 19 * 19;
+
+    private static final long SEED = 0x5A0B_7157_0000_0003L;
+
+    // Odd 64-bit constant (from the golden ratio) that spaces the keys' inputs apart
+    private static final long GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    // KEYS[player][cell]
+    private static final long[][] KEYS = new long[2][TABLE_CELLS];
+
+    // Hash of every 9-bit mask of one player's marks on the 3x3 board: MASK_HASH[player][mask]
+    private static final long[][] MASK_HASH = new long[2][1 << BitBoard.CELLS];
+
+    static {
+        for (int player = 0; player < 2; player++) {
+            for (int cell = 0; cell < TABLE_CELLS; cell++) {
+                KEYS[player][cell] = computeKey(player, cell);
+            }
+            for (int mask = 0; mask <= BitBoard.FULL_MASK; mask++) {
+                long hash = 0;
+                for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+                    if ((mask & (1 << cell)) != 0) hash ^= KEYS[player][cell];
+                }
+                MASK_HASH[player][mask] = hash;
+            }
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * @param player the player (0 for 'X', 1 for 'O')
+     * @param cell the cell index, on a board of any size
+     * @return the key to XOR into the hash when the player takes or gives up the cell
+     */
+    public static long key(int player, int cell) {
+        return cell < TABLE_CELLS ? KEYS[player][cell] : computeKey(player, cell);
+    }
+
+    /**
+     * Hashes a 3x3 position from its player masks, giving the same value a {@link BitBoard}
+     * holding the position keeps.
+     *
+     * @param xMask the cells owned by 'X'
+     * @param oMask the cells owned by 'O'
+     * @return the position's hash
+     */
+    public static long hash(int xMask, int oMask) {
+        return MASK_HASH[BitBoard.X][xMask] ^ MASK_HASH[BitBoard.O][oMask];
+    }
+
+    /**
+     * Works out a key with the SplitMix64 mixing function, which spreads neighbouring inputs over
+     * the whole 64-bit range.
+     */
+    private static long computeKey(int player, int cell) {
+        long z = SEED + ((long) cell * 2 + player + 1) * GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.portfilioproject.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The custom Java Flight Recorder events. They show up under "Tic Tac Toe" in JDK Mission Control
+ * when a recording is running, for example with {@code -XX:StartFlightRecording}.
+ *
+ * The times are measured by {@link Metrics} and stored in a field, rather than with the event's own
+ * begin and end, because most of them start on one call and finish on a later one.
+ */
+final class GameEvents {
+
+    private static final String CATEGORY = "Tic Tac Toe";
+
+    private GameEvents() {
+    }
+
+    @Name("com.example.portfilioproject.AiMove")
+    @Label("Computer Move")
+    @Description("Time the computer took to choose a move")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class AiMove extends Event {
+        @Label("Opponent")
+        String opponent;
+
+        @Label("Think Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long thinkTime;
+    }
+
+    @Name("com.example.portfilioproject.Turn")
+    @Label("Turn")
+    @Description("Time from a move being played to the board being laid out with it")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Turn extends Event {
+        @Label("Latency")
+        @Timespan(Timespan.NANOSECONDS)
+        long latency;
+    }
+
+    @Name("com.example.portfilioproject.ScreenTransition")
+    @Label("Screen Transition")
+    @Description("Time taken to show a screen")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class ScreenTransition extends Event {
+        @Label("Screen")
+        String screen;
+
+        @Label("Built")
+        @Description("True if the screen was built, false if it was reused")
+        boolean built;
+
+        @Label("Transition Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long transitionTime;
+    }
+
+    @Name("com.example.portfilioproject.AssetLoad")
+    @Label("Asset Load")
+    @Description("Time taken to load an image")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class AssetLoad extends Event {
+        @Label("Path")
+        String path;
+
+        @Label("Load Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long loadTime;
+    }
+
+    @Name("com.example.portfilioproject.Round")
+    @Label("Round")
+    @Description("Memory allocated on the JavaFX thread during a round")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Round extends Event {
+        @Label("Result")
+        String result;
+
+        @Label("Allocated")
+        @DataAmount(DataAmount.BYTES)
+        long allocated;
+    }
+}
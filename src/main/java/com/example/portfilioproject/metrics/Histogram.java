@@ -0,0 +1,142 @@
+package com.example.portfilioproject.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, thread-safe histogram of non-negative values (such as nanoseconds or bytes).
+ *
+ * Values are counted in log-linear buckets, like HdrHistogram: every power of two is split into 16
+ * equal buckets, so any value is known to within 1/16 (about 6%) of itself. The 960 buckets cover
+ * every long value, take 7.5 KB, and are set up once, so recording a value is a few arithmetic
+ * operations and an atomic increment, with no allocation or locking.
+ */
+public final class Histogram {
+
+    // Each power of two is split into 2^SUB_BUCKET_BITS buckets
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Counts a value. Negative values are counted as 0.
+     *
+     * @param value the value to count
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(bucket(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Sets the histogram back to empty. Values recorded by other threads while this runs may be kept or lost.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return the largest value recorded, or 0 if there are none
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @return the average of the values recorded, or 0 if there are none
+     */
+    public double mean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Finds the value that the given share of recorded values are at or below, to the
+     * histogram's precision.
+     *
+     * @param percentile the share of values, from 0 to 100
+     * @return the highest value in the bucket holding the percentile, or 0 if there are no values
+     */
+    public long percentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * @return the count, mean, median, 99th percentile and maximum at the time of the call
+     */
+    public Summary summary() {
+        return new Summary(count(), Math.round(mean()), percentile(50), percentile(99), max());
+    }
+
+    /**
+     * Finds the bucket for a value. Values below 16 get a bucket each; above that, the position of
+     * the highest set bit picks the power of two and the next 4 bits pick the bucket within it.
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        // value >>> shift is the highest bit followed by the next 4, so from 16 to 31
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * @return the highest value that falls in a bucket
+     */
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) ((bucket & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * A histogram's figures at the time they were read, in the histogram's unit.
+     *
+     * @param count the number of values recorded
+     * @param mean the average value
+     * @param p50 the median
+     * @param p99 the value 99% of values are at or below
+     * @param max the largest value
+     */
+    public record Summary(long count, long mean, long p50, long p99, long max) {
+    }
+}
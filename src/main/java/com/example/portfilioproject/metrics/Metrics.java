@@ -0,0 +1,176 @@
+package com.example.portfilioproject.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Built-in performance metrics: computer move times, turn latency, screen transitions, asset loads
+ * and memory allocated per round.
+ *
+ * Metrics are off unless the game is started with -Dmetrics.enabled=true. {@link #ENABLED} is a
+ * static final constant, so when metrics are off the JIT compiler removes every
+ * {@code if (Metrics.ENABLED)} block and every record call, and the game does no extra work at all.
+ *
+ * When on, every value goes into a {@link Histogram}, readable over JMX through
+ * {@link MetricsMXBean}, and into a Java Flight Recorder event (see {@link GameEvents}), which
+ * costs nothing beyond the check unless a recording is running. All record methods can be called
+ * from any thread.
+ */
+public final class Metrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("metrics.enabled");
+
+    public static final String OBJECT_NAME = "com.example.portfilioproject:type=Metrics";
+
+    private static final Histogram AI_MOVE = new Histogram();
+    private static final Histogram TURN = new Histogram();
+    private static final Histogram SCREEN_TRANSITION = new Histogram();
+    private static final Histogram ASSET_LOAD = new Histogram();
+    private static final Histogram ROUND_ALLOCATED = new Histogram();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                System.err.println("Error registering metrics MBean: " + e.getMessage());
+            }
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Records the time the computer took to choose a move.
+     *
+     * @param opponent the computer that chose the move
+     * @param nanos how long it took, in nanoseconds
+     */
+    public static void recordAiMove(String opponent, long nanos) {
+        if (!ENABLED) return;
+        AI_MOVE.record(nanos);
+        GameEvents.AiMove event = new GameEvents.AiMove();
+        if (event.shouldCommit()) {
+            event.opponent = opponent;
+            event.thinkTime = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the time from a move being played to the board being laid out with it.
+     *
+     * @param nanos the latency, in nanoseconds
+     */
+    public static void recordTurn(long nanos) {
+        if (!ENABLED) return;
+        TURN.record(nanos);
+        GameEvents.Turn event = new GameEvents.Turn();
+        if (event.shouldCommit()) {
+            event.latency = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the time taken to show a screen.
+     *
+     * @param screen the screen's name
+     * @param built true if the screen was built, false if it was reused
+     * @param nanos how long it took, in nanoseconds
+     */
+    public static void recordScreenTransition(String screen, boolean built, long nanos) {
+        if (!ENABLED) return;
+        SCREEN_TRANSITION.record(nanos);
+        GameEvents.ScreenTransition event = new GameEvents.ScreenTransition();
+        if (event.shouldCommit()) {
+            event.screen = screen;
+            event.built = built;
+            event.transitionTime = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the time taken to load an image.
+     *
+     * @param path the image's resource path
+     * @param nanos how long it took, in nanoseconds
+     */
+    public static void recordAssetLoad(String path, long nanos) {
+        if (!ENABLED) return;
+        ASSET_LOAD.record(nanos);
+        GameEvents.AssetLoad event = new GameEvents.AssetLoad();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.loadTime = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the memory allocated on the JavaFX thread during a round.
+     *
+     * @param result how the round ended
+     * @param bytes the bytes allocated, as measured with {@link #allocatedBytes()}
+     */
+    public static void recordRound(String result, long bytes) {
+        if (!ENABLED) return;
+        ROUND_ALLOCATED.record(bytes);
+        GameEvents.Round event = new GameEvents.Round();
+        if (event.shouldCommit()) {
+            event.result = result;
+            event.allocated = bytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return the total bytes the current thread has allocated so far
+     */
+    public static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * The JMX view of the histograms.
+     */
+    private static final class Bean implements MetricsMXBean {
+
+        @Override
+        public Histogram.Summary getAiMoveNanos() {
+            return AI_MOVE.summary();
+        }
+
+        @Override
+        public Histogram.Summary getTurnNanos() {
+            return TURN.summary();
+        }
+
+        @Override
+        public Histogram.Summary getScreenTransitionNanos() {
+            return SCREEN_TRANSITION.summary();
+        }
+
+        @Override
+        public Histogram.Summary getAssetLoadNanos() {
+            return ASSET_LOAD.summary();
+        }
+
+        @Override
+        public Histogram.Summary getRoundAllocatedBytes() {
+            return ROUND_ALLOCATED.summary();
+        }
+
+        @Override
+        public void reset() {
+            AI_MOVE.reset();
+            TURN.reset();
+            SCREEN_TRANSITION.reset();
+            ASSET_LOAD.reset();
+            ROUND_ALLOCATED.reset();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.portfilioproject.metrics;
+
+/**
+ * The metrics as seen over JMX (for example in JConsole or VisualVM), registered as
+ * {@value Metrics#OBJECT_NAME} when metrics are turned on.
+ *
+ * Every attribute is a snapshot of one histogram: the count, mean, median, 99th percentile and maximum.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * @return the time the computer took to choose a move, in nanoseconds
+     */
+    Histogram.Summary getAiMoveNanos();
+
+    /**
+     * @return the time from a move being played to the board being laid out with it, in nanoseconds
+     */
+    Histogram.Summary getTurnNanos();
+
+    /**
+     * @return the time taken to show a screen, in nanoseconds
+     */
+    Histogram.Summary getScreenTransitionNanos();
+
+    /**
+     * @return the time taken to load each image, in nanoseconds
+     */
+    Histogram.Summary getAssetLoadNanos();
+
+    /**
+     * @return the bytes allocated on the JavaFX thread per round
+     */
+    Histogram.Summary getRoundAllocatedBytes();
+
+    /**
+     * Empties every histogram.
+     */
+    void reset();
+}
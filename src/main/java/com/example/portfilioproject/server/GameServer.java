@@ -0,0 +1,227 @@
+package com.example.portfilioproject.server;
+
+import com.example.portfilioproject.ai.CreatorPlayer;
+import com.example.portfilioproject.ai.OpeningBook;
+import com.example.portfilioproject.ai.PerfectPlayer;
+import com.example.portfilioproject.ai.Player;
+import com.example.portfilioproject.ai.RandomPlayer;
+import com.example.portfilioproject.data.GameRecord.Opponent;
+import com.example.portfilioproject.stats.GameStatistics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless server that hosts 3x3 games over TCP, without JavaFX.
+ *
+ * Every connection gets its own virtual thread and its own {@link GameSession}, so a blocked client
+ * only holds a small stack and tens of thousands of games can run at once. The players are shared
+ * between all sessions, as they keep no per-game state.
+ *
+ * Protocol (one command per line, one reply line per command):
+ * - {@code NEW [player|creator|random|perfect]}: starts a new game against that opponent (default: creator)
+ * - {@code MOVE <cell>}: plays on a cell (0-8, row * 3 + col); the computer answers straight away
+ * - {@code BOARD}: shows the current game
+ * - {@code STATS}: shows the games, results and moves of every session since the server started
+ * - {@code QUIT}: closes the connection
+ *
+ * NEW, MOVE and BOARD reply {@code OK <cells> <status>}, where the cells are 9 characters ('X', 'O'
+ * or '.') and the status is X_TO_MOVE, O_TO_MOVE, X_WINS, O_WINS or DRAW. STATS replies
+ * {@code OK games=<n> xWins=<n> oWins=<n> draws=<n> abandoned=<n> moves=<n> aiMillis=<average>}.
+ * QUIT replies {@code BYE}.
+ * Invalid commands reply {@code ERR <message>} and leave the game unchanged.
+ *
+ * Usage: {@code GameServer [port]} (defaults to 4242).
+ */
+public final class GameServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 4242;
+
+    // Connections that can wait to be accepted, so bursts of new clients are not refused
+    private static final int ACCEPT_BACKLOG = 4096;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Opponent, Player> opponents = new EnumMap<>(Opponent.class);
+    private final GameStatistics statistics = new GameStatistics();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    /**
+     * Opens the server socket. Connections are accepted once {@link #serve()} is called.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be opened
+     */
+    public GameServer(int port) throws IOException {
+        serverSocket = new ServerSocket(port, ACCEPT_BACKLOG);
+        opponents.put(Opponent.CREATOR, new CreatorPlayer());
+        opponents.put(Opponent.RANDOM, new RandomPlayer());
+        opponents.put(Opponent.PERFECT, createPerfectPlayer());
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        try (GameServer server = new GameServer(port)) {
+            System.out.println("Game server listening on port " + server.getPort());
+            server.serve();
+        }
+    }
+
+    /**
+     * @return the port the server is listening on
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return the number of connections currently open
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * @return the statistics of every session since the server started
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a virtual thread for each one.
+     *
+     * @throws IOException if accepting fails for a reason other than the server being closed
+     */
+    public void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                // Closed while waiting for a connection
+                if (serverSocket.isClosed()) return;
+                throw e;
+            }
+            connections.submit(() -> handle(socket));
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes every open one.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+
+    /**
+     * Runs one connection's session until the client quits or disconnects.
+     */
+    private void handle(Socket socket) {
+        activeSessions.incrementAndGet();
+        GameSession session = new GameSession(ThreadLocalRandom.current().nextLong(), statistics);
+        session.start(Opponent.CREATOR, opponents.get(Opponent.CREATOR));
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String reply = execute(session, line.trim());
+                out.write(reply);
+                out.write('\n');
+                out.flush();
+                if (reply.equals("BYE")) break;
+            }
+        } catch (IOException e) {
+            // The client went away; nothing to clean up beyond the socket
+        } finally {
+            session.abandon();
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Runs one protocol command against a session.
+     *
+     * @return the reply line, without the line break
+     */
+    private String execute(GameSession session, String line) {
+        String[] parts = line.split("\\s+");
+        String command = parts[0].toUpperCase(Locale.ROOT);
+        try {
+            switch (command) {
+                case "NEW" -> {
+                    String name = parts.length > 1 ? parts[1] : "creator";
+                    Opponent mode = parseOpponent(name);
+                    if (mode == null) {
+                        return "ERR Unknown opponent: " + name;
+                    }
+                    session.start(mode, opponents.get(mode));
+                }
+                case "MOVE" -> {
+                    if (parts.length < 2) return "ERR Usage: MOVE <cell>";
+                    session.move(Integer.parseInt(parts[1]));
+                }
+                case "BOARD" -> {
+                    // Only describe the board
+                }
+                case "STATS" -> {
+                    GameStatistics.ModeStats total = statistics.total();
+                    return String.format(Locale.ROOT, "OK games=%d xWins=%d oWins=%d draws=%d abandoned=%d moves=%d aiMillis=%.4f",
+                            total.games(), total.xWins(), total.oWins(), total.draws(), total.abandoned(),
+                            total.moves(), total.averageThinkMillis());
+                }
+                case "QUIT" -> {
+                    return "BYE";
+                }
+                default -> {
+                    return "ERR Unknown command: " + parts[0];
+                }
+            }
+        } catch (NumberFormatException e) {
+            return "ERR Invalid cell: " + parts[1];
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return "ERR " + e.getMessage();
+        }
+        return "OK " + session.describe();
+    }
+
+    /**
+     * @return the opponent with the given name, or null if the server does not offer it
+     */
+    private Opponent parseOpponent(String name) {
+        if (name.equalsIgnoreCase("player")) return Opponent.PLAYER;
+        for (Opponent mode : opponents.keySet()) {
+            if (mode.name().equalsIgnoreCase(name)) return mode;
+        }
+        return null;
+    }
+
+    private static Player createPerfectPlayer() {
+        try {
+            return new PerfectPlayer(OpeningBook.load());
+        } catch (IOException e) {
+            // The perfect player falls back to solving positions itself
+            System.err.println("Error loading opening book: " + e.getMessage());
+            return new PerfectPlayer();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.portfilioproject.server;
+
+import com.example.portfilioproject.ai.Player;
+import com.example.portfilioproject.data.GameRecord.Opponent;
+import com.example.portfilioproject.data.GameRecord.Result;
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.metrics.Metrics;
+import com.example.portfilioproject.stats.GameStatistics;
+
+import java.util.SplittableRandom;
+
+/**
+ * One game on the server. The board is a {@link BitBoard} (a few ints and a hash), so tens of
+ * thousands of sessions only take a few megabytes.
+ *
+ * A session belongs to a single connection and is only used from that connection's thread.
+ * The person always plays 'X'. Against a computer, the computer answers every move as 'O'
+ * before the move returns; without one, the client plays both sides. Moves, results and the
+ * computer's thinking time are added to statistics shared by every session.
+ */
+final class GameSession {
+
+    private final BitBoard board = new BitBoard();
+    private final SplittableRandom random;
+    private final GameStatistics statistics;
+    private Player computer; // null when the client plays both sides
+    private Opponent mode;
+
+    /**
+     * @param seed the seed for the computer's random choices
+     * @param statistics the statistics to add this session's games to
+     */
+    GameSession(long seed, GameStatistics statistics) {
+        random = new SplittableRandom(seed);
+        this.statistics = statistics;
+    }
+
+    /**
+     * Clears the board for a new game. A game in progress is counted as abandoned.
+     *
+     * @param mode who plays 'O'
+     * @param computer the computer playing 'O', or null if the client plays both sides
+     */
+    void start(Opponent mode, Player computer) {
+        abandon();
+        this.mode = mode;
+        this.computer = computer;
+        board.reset();
+    }
+
+    /**
+     * Counts the game in progress as abandoned, if there is one.
+     */
+    void abandon() {
+        if (mode != null && board.moveCount() > 0 && !isOver()) {
+            statistics.recordGame(mode, Result.ABANDONED);
+        }
+    }
+
+    /**
+     * Plays a move for the side to move, followed by the computer's answer if there is one.
+     *
+     * @param cell the cell index (0-8)
+     * @throws IllegalArgumentException if the cell is not on the board
+     * @throws IllegalStateException if the cell is taken or the game is over
+     */
+    void move(int cell) {
+        if (isOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        int player = board.sideToMove();
+        board.play(cell, player);
+        statistics.recordMove(mode);
+        if (computer != null && !isOver()) {
+            long start = System.nanoTime();
+            int reply = computer.chooseMove(board, random);
+            long thinkNanos = System.nanoTime() - start;
+            statistics.recordThinkTime(mode, thinkNanos);
+            Metrics.recordAiMove(mode.name(), thinkNanos);
+            board.play(reply, BitBoard.opponent(player));
+            statistics.recordMove(mode);
+        }
+
+        if (board.hasWon(BitBoard.X)) {
+            statistics.recordGame(mode, Result.X_WINS);
+        } else if (board.hasWon(BitBoard.O)) {
+            statistics.recordGame(mode, Result.O_WINS);
+        } else if (board.isFull()) {
+            statistics.recordGame(mode, Result.DRAW);
+        }
+    }
+
+    /**
+     * @return true if a player has won or the board is full
+     */
+    boolean isOver() {
+        return board.isGameOver();
+    }
+
+    /**
+     * Describes the board and the game state for the protocol, for example {@code X.O.X.... O_TO_MOVE}.
+     *
+     * @return the 9 cells ('X', 'O' or '.') in cell order, a space, and the status
+     */
+    String describe() {
+        StringBuilder sb = new StringBuilder(BitBoard.CELLS + 10);
+        for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+            int player = board.get(cell);
+            sb.append(player == BitBoard.X ? 'X' : player == BitBoard.O ? 'O' : '.');
+        }
+        sb.append(' ');
+        if (board.hasWon(BitBoard.X)) {
+            sb.append("X_WINS");
+        } else if (board.hasWon(BitBoard.O)) {
+            sb.append("O_WINS");
+        } else if (board.isFull()) {
+            sb.append("DRAW");
+        } else {
+            sb.append(board.sideToMove() == BitBoard.X ? "X_TO_MOVE" : "O_TO_MOVE");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.portfilioproject.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for {@link GameServer}: opens many connections at once, plays random games on all of
+ * them and reports the move latency (p50, p99 and max) and the number of moves per second.
+ *
+ * Every connection is opened before any game starts, so the server holds all the sessions at the
+ * same time. Each connection runs on its own virtual thread.
+ *
+ * Usage: {@code LoadTestClient [host] [port] [connections] [games] [opponent]}
+ * (defaults to localhost, 4242, 1000 connections, 20 games per connection and the creator AI).
+ * Tens of thousands of connections need a higher open file limit (ulimit -n) on both ends.
+ */
+public final class LoadTestClient {
+
+    private LoadTestClient() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+        String opponent = args.length > 4 ? args[4] : "creator";
+
+        System.out.println(run(host, port, connections, games, opponent));
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param host the server host
+     * @param port the server port
+     * @param connections the number of connections to open at once
+     * @param games the number of games to play on every connection
+     * @param opponent the opponent to play against (player, creator, random or perfect)
+     * @return the latency report
+     * @throws InterruptedException if interrupted while waiting for the connections
+     */
+    public static String run(String host, int port, int connections, int games, String opponent) throws InterruptedException {
+        List<long[]> results = new ArrayList<>();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch connected = new CountDownLatch(connections);
+        CountDownLatch go = new CountDownLatch(1);
+        long start;
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                long seed = i;
+                clients.submit(() -> {
+                    Socket socket;
+                    try {
+                        socket = new Socket(host, port);
+                        socket.setTcpNoDelay(true);
+                    } catch (IOException e) {
+                        failures.incrementAndGet();
+                        connected.countDown();
+                        return;
+                    }
+                    connected.countDown();
+                    try (socket) {
+                        go.await();
+                        long[] latencies = play(socket, games, opponent, new SplittableRandom(seed));
+                        synchronized (results) {
+                            results.add(latencies);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        failures.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            connected.await();
+            start = System.nanoTime();
+            go.countDown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // Put every latency together and sort them for the percentiles
+        int total = 0;
+        for (long[] latencies : results) total += latencies.length;
+        long[] all = new long[total];
+        int at = 0;
+        for (long[] latencies : results) {
+            System.arraycopy(latencies, 0, all, at, latencies.length);
+            at += latencies.length;
+        }
+        Arrays.sort(all);
+
+        return String.format("%,d connections (%,d failed), %,d moves in %.2f s (%,.0f moves/s)%n"
+                        + "Move latency: p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                connections, failures.get(), total, elapsed / 1e9, total * 1e9 / Math.max(1, elapsed),
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6, total == 0 ? 0 : all[total - 1] / 1e6);
+    }
+
+    /**
+     * Plays random games on one connection.
+     *
+     * @return the time each move took to be answered, in nanoseconds
+     */
+    private static long[] play(Socket socket, int games, String opponent, SplittableRandom random) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+        long[] latencies = new long[games * 9];
+        int count = 0;
+
+        for (int game = 0; game < games; game++) {
+            String reply = send(in, out, "NEW " + opponent);
+            while (reply.endsWith("_TO_MOVE")) {
+                // Pick a random free cell from the board in the reply ("OK <cells> <status>")
+                int cell = randomFreeCell(reply.substring(3, 12), random);
+                long sent = System.nanoTime();
+                reply = send(in, out, "MOVE " + cell);
+                latencies[count++] = System.nanoTime() - sent;
+            }
+        }
+        send(in, out, "QUIT");
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static String send(BufferedReader in, Writer out, String command) throws IOException {
+        out.write(command);
+        out.write('\n');
+        out.flush();
+        String reply = in.readLine();
+        if (reply == null) {
+            throw new IOException("Server closed the connection");
+        }
+        if (reply.startsWith("ERR")) {
+            throw new IOException("Server replied " + reply + " to " + command);
+        }
+        return reply;
+    }
+
+    private static int randomFreeCell(String cells, SplittableRandom random) {
+        int free = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            if (cells.charAt(i) == '.') free++;
+        }
+        int pick = random.nextInt(free);
+        for (int i = 0; i < cells.length(); i++) {
+            if (cells.charAt(i) == '.' && pick-- == 0) return i;
+        }
+        throw new IllegalStateException("No free cell on " + cells);
+    }
+
+    /**
+     * @param sorted the values, in ascending order
+     * @param fraction the percentile, from 0 to 1
+     * @return the value at the percentile (nearest rank), or 0 if there are no values
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.portfilioproject.sim;
+
+import com.example.portfilioproject.data.GameArchive;
+import com.example.portfilioproject.data.GameRecord.Opponent;
+import com.example.portfilioproject.data.GameRecord.Result;
+import com.example.portfilioproject.engine.BitBoard;
+import com.example.portfilioproject.engine.GameVariant;
+import com.example.portfilioproject.engine.GridBoard;
+import com.example.portfilioproject.engine.Symmetry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Command line tool that streams a game archive, replays every game on a board and adds up
+ * statistics: results per opponent (including how often the creator AI wins), and how often each
+ * first move and each reply to it was played on every board size. Openings that are rotations or
+ * reflections of each other are counted together, under the copy with the smallest cell indexes
+ * (for example every corner opening is counted as the top-left corner).
+ *
+ * Usage: {@code ReplayEngine [archive]} (defaults to {@code games.dat}).
+ *
+ * Games are read and replayed one at a time on one reused board per variant, and the statistics
+ * are fixed-size tables, so memory use does not grow with the size of the archive. Games whose
+ * moves are illegal, or whose stored result does not match the replayed board, are counted as
+ * invalid and left out of the statistics.
+ */
+public final class ReplayEngine {
+
+    private static final String DEFAULT_ARCHIVE = "games.dat";
+
+    // Number of most played openings shown in the report
+    private static final int TOP_OPENINGS = 5;
+
+    private ReplayEngine() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path archive = Path.of(args.length > 0 ? args[0] : DEFAULT_ARCHIVE);
+        long start = System.nanoTime();
+        Stats stats = replay(archive);
+        System.out.print(stats.report());
+        System.out.printf("Replayed in %.2f s%n", (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Replays every game in an archive.
+     *
+     * @param archive the archive file
+     * @return the statistics over every valid game
+     * @throws IOException if the archive cannot be read
+     */
+    public static Stats replay(Path archive) throws IOException {
+        Stats stats = new Stats();
+        GridBoard[] boards = new GridBoard[GameVariant.values().length];
+        try (GameArchive.Reader reader = GameArchive.read(archive)) {
+            while (reader.next()) {
+                GameVariant variant = reader.variant();
+                GridBoard board = boards[variant.ordinal()];
+                if (board == null) {
+                    board = variant.newBoard();
+                    boards[variant.ordinal()] = board;
+                }
+                if (replayGame(reader, board)) {
+                    stats.add(reader, variant);
+                } else {
+                    stats.invalid++;
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Plays the current game of the reader on the board and checks that it ends the way it was stored.
+     *
+     * @return true if every move was legal and the result matches
+     */
+    private static boolean replayGame(GameArchive.Reader reader, GridBoard board) {
+        board.reset();
+        int player = BitBoard.X;
+        try {
+            for (int i = 0; i < reader.moveCount(); i++) {
+                int cell = reader.moveAt(i);
+                if (cell >= board.cellCount()) return false;
+                board.play(cell, player);
+                player = BitBoard.opponent(player);
+            }
+        } catch (IllegalStateException e) {
+            return false;
+        }
+        return switch (reader.result()) {
+            case X_WINS -> board.winner() == BitBoard.X;
+            case O_WINS -> board.winner() == BitBoard.O;
+            case DRAW -> board.winner() == BitBoard.EMPTY && board.isFull();
+            case ABANDONED -> !board.isGameOver();
+        };
+    }
+
+    /**
+     * Statistics over the games in an archive.
+     */
+    public static final class Stats {
+
+        private static final GameVariant[] VARIANTS = GameVariant.values();
+
+        private long games;
+        private long invalid;
+
+        // Games per opponent and result
+        private final long[][] results = new long[Opponent.values().length][Result.values().length];
+
+        // Per variant: how often each canonical first move and (first move, reply) pair was played
+        private final long[][] firstMoves = new long[VARIANTS.length][];
+        private final long[][] replies = new long[VARIANTS.length][];
+
+        Stats() {
+            for (GameVariant variant : VARIANTS) {
+                int cells = variant.getSize() * variant.getSize();
+                firstMoves[variant.ordinal()] = new long[cells];
+                replies[variant.ordinal()] = new long[cells * cells];
+            }
+        }
+
+        private void add(GameArchive.Reader game, GameVariant variant) {
+            games++;
+            results[game.opponent().ordinal()][game.result().ordinal()]++;
+            int size = variant.getSize();
+            if (game.moveCount() > 0) {
+                firstMoves[variant.ordinal()][canonicalOpening(size, game.moveAt(0), -1)]++;
+            }
+            if (game.moveCount() > 1) {
+                replies[variant.ordinal()][canonicalOpening(size, game.moveAt(0), game.moveAt(1))]++;
+            }
+        }
+
+        /**
+         * Finds the smallest index (first * cells + reply) among the 8 symmetric copies of an opening.
+         *
+         * @param size the number of rows and columns
+         * @param first the cell of the first move
+         * @param reply the cell of the second move, or -1 to only look at the first move
+         * @return the canonical first move, or the canonical (first, reply) index if there is a reply
+         */
+        static int canonicalOpening(int size, int first, int reply) {
+            int cells = size * size;
+            int best = Integer.MAX_VALUE;
+            for (int t = 0; t < Symmetry.COUNT; t++) {
+                int index = reply < 0
+                        ? Symmetry.transformCell(first, size, t)
+                        : Symmetry.transformCell(first, size, t) * cells + Symmetry.transformCell(reply, size, t);
+                best = Math.min(best, index);
+            }
+            return best;
+        }
+
+        /**
+         * @return the number of valid games replayed
+         */
+        public long games() {
+            return games;
+        }
+
+        /**
+         * @return the number of games that were skipped because they did not replay correctly
+         */
+        public long invalid() {
+            return invalid;
+        }
+
+        /**
+         * @param opponent who played 'O'
+         * @param result how the games ended
+         * @return the number of games against the opponent that ended that way
+         */
+        public long count(Opponent opponent, Result result) {
+            return results[opponent.ordinal()][result.ordinal()];
+        }
+
+        /**
+         * Works out how often a computer opponent won its finished games. The computer always plays 'O'.
+         *
+         * @param opponent the computer opponent
+         * @return the share of finished games the opponent won, from 0 to 1, or 0 if none were played
+         */
+        public double winRate(Opponent opponent) {
+            long finished = count(opponent, Result.X_WINS) + count(opponent, Result.O_WINS) + count(opponent, Result.DRAW);
+            return finished == 0 ? 0 : (double) count(opponent, Result.O_WINS) / finished;
+        }
+
+        /**
+         * @param variant the board
+         * @param cell the cell index
+         * @return the number of games on the board that started on the cell or one of its symmetric copies
+         */
+        public long firstMoveCount(GameVariant variant, int cell) {
+            return firstMoves[variant.ordinal()][canonicalOpening(variant.getSize(), cell, -1)];
+        }
+
+        /**
+         * @param variant the board
+         * @param first the cell of the first move
+         * @param reply the cell of the second move
+         * @return the number of games on the board that started with those two moves or a symmetric copy of them
+         */
+        public long replyCount(GameVariant variant, int first, int reply) {
+            return replies[variant.ordinal()][canonicalOpening(variant.getSize(), first, reply)];
+        }
+
+        /**
+         * Formats the statistics.
+         *
+         * @return the report text
+         */
+        public String report() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%,d games (%,d invalid skipped)%n", games, invalid));
+
+            sb.append("Results by opponent ('O'):\n");
+            for (Opponent opponent : Opponent.values()) {
+                long[] row = results[opponent.ordinal()];
+                long total = 0;
+                for (long count : row) total += count;
+                if (total == 0) continue;
+                sb.append(String.format("  %-12s %,10d games  X wins %,d  O wins %,d  draws %,d  abandoned %,d",
+                        opponent, total, row[Result.X_WINS.ordinal()], row[Result.O_WINS.ordinal()],
+                        row[Result.DRAW.ordinal()], row[Result.ABANDONED.ordinal()]));
+                if (opponent != Opponent.PLAYER) {
+                    sb.append(String.format("  (computer win rate %.2f%%)", 100 * winRate(opponent)));
+                }
+                sb.append('\n');
+            }
+
+            for (GameVariant variant : VARIANTS) {
+                long[] counts = replies[variant.ordinal()];
+                int cells = variant.getSize() * variant.getSize();
+                long started = 0;
+                for (long count : firstMoves[variant.ordinal()]) started += count;
+                if (started == 0) continue;
+
+                sb.append(String.format("Most played openings on %s (rotations and reflections counted together):%n", variant.getDisplayName()));
+                for (int index : top(counts, TOP_OPENINGS)) {
+                    long count = counts[index];
+                    sb.append(String.format("  %-18s %,10d  %6.2f%%%n",
+                            cellName(variant, index / cells) + " then " + cellName(variant, index % cells),
+                            count, 100.0 * count / started));
+                }
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Finds the indexes of the largest non-zero counts, largest first, without sorting the whole table.
+         */
+        private static int[] top(long[] counts, int limit) {
+            int[] best = new int[limit];
+            int found = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) continue;
+                // Insertion into the short list of best indexes
+                int at = Math.min(found, limit - 1);
+                if (found == limit && counts[best[at]] >= counts[i]) continue;
+                while (at > 0 && counts[best[at - 1]] < counts[i]) {
+                    best[at] = best[at - 1];
+                    at--;
+                }
+                best[at] = i;
+                if (found < limit) found++;
+            }
+            return Arrays.copyOf(best, found);
+        }
+
+        private static String cellName(GameVariant variant, int cell) {
+            return "(" + cell / variant.getSize() + "," + cell % variant.getSize() + ")";
+        }
+    }
+}
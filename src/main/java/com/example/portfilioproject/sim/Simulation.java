@@ -0,0 +1,160 @@
+package com.example.portfilioproject.sim;
+
+import com.example.portfilioproject.ai.Player;
+import com.example.portfilioproject.engine.BitBoard;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Plays many 3x3 games between two strategies, reproducibly, on any number of threads.
+ *
+ * The games are cut into fixed chunks of {@link #CHUNK_SIZE}, and every chunk gets its own
+ * {@link SplittableRandom}, split from the seed in chunk order before any game starts. A chunk is
+ * always played by one thread with its own board and generator, and the chunks' results are added
+ * together in chunk order at the end. So the same players, game count and seed always give exactly
+ * the same {@link Summary}, checksum included, whatever the thread count and however the threads
+ * are scheduled. That makes runs comparable across builds, and any bad game can be played again.
+ */
+public final class Simulation {
+
+    // Games played by one task before its results are added to the totals
+    public static final int CHUNK_SIZE = 10_000;
+
+    // Odd 64-bit constant (from the golden ratio) used to mix games into the checksum
+    private static final long MIX = 0x9E37_79B9_7F4A_7C15L;
+
+    private Simulation() {
+    }
+
+    /**
+     * Plays the games in parallel. Player A goes first in even-numbered games, player B in odd ones.
+     *
+     * @param a the first player
+     * @param b the second player
+     * @param games the number of games to play
+     * @param threads the number of threads to play on
+     * @param seed the seed for the players' random choices
+     * @return the totals for both players, which only depend on the players, games and seed
+     */
+    public static Summary run(Player a, Player b, long games, int threads, long seed) {
+        int chunks = (int) ((games + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+        // Give every chunk its own generator, in chunk order, so results only depend on the seed
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            randoms[i] = root.split();
+        }
+
+        // Each chunk writes only its own slot
+        Summary[] results = new Summary[chunks];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                long first = (long) chunk * CHUNK_SIZE;
+                long last = Math.min(games, first + CHUNK_SIZE);
+                results[chunk] = playChunk(a, b, first, last, randoms[chunk]);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        Summary total = Summary.EMPTY;
+        for (Summary chunk : results) {
+            total = total.plus(chunk);
+        }
+        return total;
+    }
+
+    /**
+     * Plays one chunk of games on the calling thread.
+     *
+     * @param first the number of the chunk's first game
+     * @param last the number after the chunk's last game
+     * @param random the chunk's own generator
+     */
+    private static Summary playChunk(Player a, Player b, long first, long last, SplittableRandom random) {
+        BitBoard board = new BitBoard();
+        long aWins = 0;
+        long bWins = 0;
+        long draws = 0;
+        long moves = 0;
+        long checksum = 0;
+        for (long game = first; game < last; game++) {
+            boolean aFirst = game % 2 == 0;
+            int winner = playGame(board, aFirst ? a : b, aFirst ? b : a, random);
+            if (winner == BitBoard.EMPTY) {
+                draws++;
+            } else if ((winner == BitBoard.X) == aFirst) {
+                aWins++;
+            } else {
+                bWins++;
+            }
+            moves += board.moveCount();
+
+            // The final position and the winner identify how the game went
+            long outcome = board.mask(BitBoard.X) | (long) board.mask(BitBoard.O) << 9 | (long) (winner + 1) << 18;
+            checksum = (checksum + outcome + 1) * MIX;
+        }
+        return new Summary(aWins, bWins, draws, moves, checksum);
+    }
+
+    /**
+     * Plays one game from an empty board.
+     *
+     * @param board the board to play on, reset before the game starts
+     * @param x the player going first
+     * @param o the player going second
+     * @param random the random source for both players
+     * @return the winner (0 for 'X', 1 for 'O'), or -1 for a draw
+     */
+    public static int playGame(BitBoard board, Player x, Player o, RandomGenerator random) {
+        board.reset();
+        int player = BitBoard.X;
+        while (!board.isFull()) {
+            int cell = (player == BitBoard.X ? x : o).chooseMove(board, random);
+            board.play(cell, player);
+            if (board.hasWon(player)) return player;
+            player = BitBoard.opponent(player);
+        }
+        return BitBoard.EMPTY;
+    }
+
+    /**
+     * The results of a simulation. Two runs with the same players, games and seed give equal summaries.
+     *
+     * @param aWins games won by player A
+     * @param bWins games won by player B
+     * @param draws games drawn
+     * @param moves moves played in all games
+     * @param checksum a hash of every game's final position and winner, in game order
+     */
+    public record Summary(long aWins, long bWins, long draws, long moves, long checksum) {
+
+        static final Summary EMPTY = new Summary(0, 0, 0, 0, 0);
+
+        /**
+         * @return the number of games played
+         */
+        public long games() {
+            return aWins + bWins + draws;
+        }
+
+        /**
+         * Adds the results of the games that came after these ones.
+         */
+        Summary plus(Summary next) {
+            return new Summary(aWins + next.aWins, bWins + next.bWins, draws + next.draws,
+                    moves + next.moves, checksum * MIX + next.checksum);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.portfilioproject.sim;
+
+import com.example.portfilioproject.ai.CreatorPlayer;
+import com.example.portfilioproject.ai.OpeningBook;
+import com.example.portfilioproject.ai.PerfectPlayer;
+import com.example.portfilioproject.ai.Player;
+import com.example.portfilioproject.ai.RandomPlayer;
+
+import java.io.IOException;
+
+/**
+ * Command line runner that plays two strategies against each other on every core, without the UI.
+ *
+ * Usage: {@code Tournament <playerA> <playerB> [games] [threads] [seed]}, where players are
+ * {@code creator}, {@code random} or {@code perfect}. The players take turns going first.
+ * The report shows win, draw and loss rates with 95% confidence intervals and games per second.
+ *
+ * The games are played by {@link Simulation}, so the same seed gives exactly the same results and
+ * checksum on any number of threads. A run can be repeated by passing the seed it printed.
+ */
+public final class Tournament {
+
+    // z value for a 95% confidence interval
+    private static final double Z_95 = 1.959964;
+
+    private Tournament() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: Tournament <creator|random|perfect> <creator|random|perfect> [games] [threads] [seed]");
+            System.exit(1);
+        }
+        Player a = createPlayer(args[0]);
+        Player b = createPlayer(args[1]);
+        long games = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+
+        Result result = run(a, b, games, threads, seed);
+        System.out.println("Seed: " + seed);
+        System.out.println(result.report(a.name(), b.name(), threads));
+    }
+
+    /**
+     * Creates a player from its command line name.
+     *
+     * @param name creator, random or perfect
+     * @return the player
+     * @throws IOException if the perfect player's opening book cannot be loaded
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static Player createPlayer(String name) throws IOException {
+        return switch (name) {
+            case "creator" -> new CreatorPlayer();
+            case "random" -> new RandomPlayer();
+            case "perfect" -> new PerfectPlayer(OpeningBook.load());
+            default -> throw new IllegalArgumentException("Unknown player: " + name);
+        };
+    }
+
+    /**
+     * Plays the games in parallel and times them. Player A goes first in even-numbered games, player B in odd ones.
+     *
+     * @param a the first player
+     * @param b the second player
+     * @param games the number of games to play
+     * @param threads the number of threads to play on
+     * @param seed the seed for the players' random choices
+     * @return the totals for both players
+     */
+    public static Result run(Player a, Player b, long games, int threads, long seed) {
+        long start = System.nanoTime();
+        Simulation.Summary summary = Simulation.run(a, b, games, threads, seed);
+        return new Result(summary.aWins(), summary.bWins(), summary.draws(), summary.checksum(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Works out a 95% Wilson score confidence interval for a rate.
+     *
+     * @param successes the number of times the outcome happened
+     * @param total the number of games
+     * @return the lower and upper bounds of the interval
+     */
+    static double[] wilsonInterval(long successes, long total) {
+        if (total == 0) return new double[]{0, 0};
+        double p = (double) successes / total;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / total;
+        double center = (p + z2 / (2 * total)) / denominator;
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / total + z2 / (4.0 * total * total)) / denominator;
+        return new double[]{Math.max(0, center - margin), Math.min(1, center + margin)};
+    }
+
+    /**
+     * Totals for one tournament.
+     *
+     * @param aWins games won by player A
+     * @param bWins games won by player B
+     * @param draws games drawn
+     * @param checksum the simulation's checksum of every game, equal for runs with the same seed
+     * @param elapsedNanos how long the games took
+     */
+    public record Result(long aWins, long bWins, long draws, long checksum, long elapsedNanos) {
+
+        /**
+         * @return the number of games played
+         */
+        public long games() {
+            return aWins + bWins + draws;
+        }
+
+        /**
+         * @return the number of games played per second
+         */
+        public double gamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : games() * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Formats the results with confidence intervals.
+         *
+         * @param aName the name of player A
+         * @param bName the name of player B
+         * @param threads the number of threads the games were played on
+         * @return the report text
+         */
+        public String report(String aName, String bName, int threads) {
+            return String.format("%s vs %s: %,d games in %.2f s (%,.0f games/s) on %d threads%n",
+                    aName, bName, games(), elapsedNanos / 1e9, gamesPerSecond(), threads)
+                    + line(aName + " wins", aWins)
+                    + line(bName + " wins", bWins)
+                    + line("draws", draws)
+                    + String.format("  checksum %016x%n", checksum);
+        }
+
+        private String line(String label, long count) {
+            double[] interval = wilsonInterval(count, games());
+            return String.format("  %-16s %,12d  %6.2f%%  [%6.2f%%, %6.2f%%]%n",
+                    label, count, 100.0 * count / Math.max(1, games()), 100 * interval[0], 100 * interval[1]);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.portfilioproject.stats;
+
+import com.example.portfilioproject.data.GameRecord.Opponent;
+import com.example.portfilioproject.data.GameRecord.Result;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe game statistics: wins, draws, games, moves and computer thinking time for every game
+ * mode (who plays 'O').
+ *
+ * Every counter is a {@link LongAdder}, which spreads updates from different threads over separate
+ * cells, so games, computer players and server sessions can all record at once without locking or
+ * fighting over one memory location. Reads add the cells up without locking; a read taken while
+ * other threads are recording may miss their latest updates, which is fine for showing scores.
+ */
+public final class GameStatistics {
+
+    private static final Opponent[] MODES = Opponent.values();
+
+    private final Counters[] modes = new Counters[MODES.length];
+
+    // Scores carried over from earlier sessions (the score history), which have no mode
+    private final LongAdder restoredXWins = new LongAdder();
+    private final LongAdder restoredOWins = new LongAdder();
+    private final LongAdder restoredDraws = new LongAdder();
+
+    public GameStatistics() {
+        for (int i = 0; i < modes.length; i++) {
+            modes[i] = new Counters();
+        }
+    }
+
+    /**
+     * Counts a move played in a game.
+     *
+     * @param mode who plays 'O' in the game
+     */
+    public void recordMove(Opponent mode) {
+        modes[mode.ordinal()].moves.increment();
+    }
+
+    /**
+     * Counts the time the computer spent choosing a move.
+     *
+     * @param mode the computer that chose the move
+     * @param nanos how long it took, in nanoseconds
+     */
+    public void recordThinkTime(Opponent mode, long nanos) {
+        Counters counters = modes[mode.ordinal()];
+        counters.aiMoves.increment();
+        counters.aiThinkNanos.add(nanos);
+    }
+
+    /**
+     * Counts a game that ended.
+     *
+     * @param mode who played 'O'
+     * @param result how the game ended
+     */
+    public void recordGame(Opponent mode, Result result) {
+        Counters counters = modes[mode.ordinal()];
+        switch (result) {
+            case X_WINS -> counters.xWins.increment();
+            case O_WINS -> counters.oWins.increment();
+            case DRAW -> counters.draws.increment();
+            case ABANDONED -> counters.abandoned.increment();
+        }
+    }
+
+    /**
+     * Adds scores from earlier sessions to the win and draw totals.
+     *
+     * @param xWins the number of games 'X' won
+     * @param oWins the number of games 'O' won
+     * @param draws the number of drawn games
+     */
+    public void restore(long xWins, long oWins, long draws) {
+        restoredXWins.add(xWins);
+        restoredOWins.add(oWins);
+        restoredDraws.add(draws);
+    }
+
+    /**
+     * Sets every counter back to 0. Updates recorded by other threads while this runs may be kept or lost.
+     */
+    public void reset() {
+        restoredXWins.reset();
+        restoredOWins.reset();
+        restoredDraws.reset();
+        for (Counters counters : modes) {
+            counters.reset();
+        }
+    }
+
+    /**
+     * @return the number of games 'X' won in every mode, including restored scores
+     */
+    public long xWins() {
+        long total = restoredXWins.sum();
+        for (Counters counters : modes) total += counters.xWins.sum();
+        return total;
+    }
+
+    /**
+     * @return the number of games 'O' won in every mode, including restored scores
+     */
+    public long oWins() {
+        long total = restoredOWins.sum();
+        for (Counters counters : modes) total += counters.oWins.sum();
+        return total;
+    }
+
+    /**
+     * @return the number of drawn games in every mode, including restored scores
+     */
+    public long draws() {
+        long total = restoredDraws.sum();
+        for (Counters counters : modes) total += counters.draws.sum();
+        return total;
+    }
+
+    /**
+     * @param mode who plays 'O'
+     * @return the current counts for the mode
+     */
+    public ModeStats get(Opponent mode) {
+        return modes[mode.ordinal()].snapshot();
+    }
+
+    /**
+     * @return the counts of every mode added together, not including restored scores
+     */
+    public ModeStats total() {
+        ModeStats total = ModeStats.ZERO;
+        for (Opponent mode : MODES) {
+            total = total.plus(get(mode));
+        }
+        return total;
+    }
+
+    /**
+     * The counts for one mode at the time they were read.
+     *
+     * @param xWins games won by 'X'
+     * @param oWins games won by 'O'
+     * @param draws games drawn
+     * @param abandoned games left before they finished
+     * @param moves moves played by both sides
+     * @param aiMoves moves chosen by the computer
+     * @param aiThinkNanos total time the computer spent choosing moves, in nanoseconds
+     */
+    public record ModeStats(long xWins, long oWins, long draws, long abandoned, long moves, long aiMoves, long aiThinkNanos) {
+
+        static final ModeStats ZERO = new ModeStats(0, 0, 0, 0, 0, 0, 0);
+
+        /**
+         * @return the number of games that finished
+         */
+        public long games() {
+            return xWins + oWins + draws;
+        }
+
+        /**
+         * @return the average time the computer took per move in milliseconds, or 0 if it has not moved
+         */
+        public double averageThinkMillis() {
+            return aiMoves == 0 ? 0 : aiThinkNanos / 1e6 / aiMoves;
+        }
+
+        ModeStats plus(ModeStats other) {
+            return new ModeStats(xWins + other.xWins, oWins + other.oWins, draws + other.draws,
+                    abandoned + other.abandoned, moves + other.moves, aiMoves + other.aiMoves,
+                    aiThinkNanos + other.aiThinkNanos);
+        }
+    }
+
+    /**
+     * The counters of one mode.
+     */
+    private static final class Counters {
+        final LongAdder xWins = new LongAdder();
+        final LongAdder oWins = new LongAdder();
+        final LongAdder draws = new LongAdder();
+        final LongAdder abandoned = new LongAdder();
+        final LongAdder moves = new LongAdder();
+        final LongAdder aiMoves = new LongAdder();
+        final LongAdder aiThinkNanos = new LongAdder();
+
+        ModeStats snapshot() {
+            return new ModeStats(xWins.sum(), oWins.sum(), draws.sum(), abandoned.sum(),
+                    moves.sum(), aiMoves.sum(), aiThinkNanos.sum());
+        }
+
+        void reset() {
+            xWins.reset();
+            oWins.reset();
+            draws.reset();
+            abandoned.reset();
+            moves.reset();
+            aiMoves.reset();
+            aiThinkNanos.reset();
+        }
+    }
+}
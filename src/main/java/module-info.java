@@ -2,8 +2,18 @@ module com.example.portfilioproject {
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
+    requires jdk.management; // Allocation counters for ScreenManager reports and metrics
+    requires jdk.jfr; // Flight Recorder events for metrics
+    requires static java.desktop; // Only used by the AtlasPacker build tool
 
 
     opens com.example.portfilioproject to javafx.fxml;
     exports com.example.portfilioproject;
+    exports com.example.portfilioproject.ai;
+    exports com.example.portfilioproject.data;
+    exports com.example.portfilioproject.engine;
+    exports com.example.portfilioproject.metrics;
+    exports com.example.portfilioproject.server;
+    exports com.example.portfilioproject.sim;
+    exports com.example.portfilioproject.stats;
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.portfilioproject.ai;
+
+import com.example.portfilioproject.engine.BitBoard;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpeningBookTest {
+
+    private static OpeningBook book;
+
+    @BeforeAll
+    static void loadBook() throws IOException {
+        book = OpeningBook.load();
+    }
+
+    @Test
+    void shippedBookMatchesTheGenerator() throws IOException {
+        try (InputStream in = OpeningBook.class.getResourceAsStream(OpeningBook.RESOURCE)) {
+            assertNotNull(in);
+            OpeningBookGenerator.Book generated = OpeningBookGenerator.generate();
+            assertEquals(5478, generated.reachable());
+            assertEquals(4520, generated.withMove());
+            assertArrayEquals(generated.bytes(), in.readAllBytes(), "Run OpeningBookGenerator to rebuild the book");
+        }
+    }
+
+    @Test
+    void everyEntryMatchesAFullSolve() {
+        BitBoard board = new BitBoard();
+        int checked = 0;
+
+        // Try every combination of masks, including illegal ones, which must have no move
+        for (int xMask = 0; xMask <= BitBoard.FULL_MASK; xMask++) {
+            for (int oMask = 0; oMask <= BitBoard.FULL_MASK; oMask++) {
+                if ((xMask & oMask) != 0) continue;
+                board.load(xMask, oMask);
+                int move = book.bestMove(board);
+                if (!isPlayable(board)) {
+                    assertEquals(-1, move, () -> "Move for a finished or unreachable position\n" + board);
+                    continue;
+                }
+
+                // The stored score must match the search, and the stored move must achieve it
+                checked++;
+                int expected = bruteForce(board);
+                assertEquals(expected, book.score(board), () -> "Score\n" + board);
+                assertTrue(move >= 0 && move < BitBoard.CELLS && board.isEmpty(move), () -> "Move " + move + "\n" + board);
+                board.play(move, board.sideToMove());
+                int achieved = -bruteForce(board);
+                board.undo(move);
+                assertEquals(expected, achieved, () -> "Move " + move + " does not reach the best score\n" + board);
+            }
+        }
+        assertEquals(4520, checked);
+    }
+
+    /**
+     * Checks if the position can come up in a real game and still has moves to play.
+     */
+    private static boolean isPlayable(BitBoard board) {
+        int xCount = Integer.bitCount(board.mask(BitBoard.X));
+        int oCount = Integer.bitCount(board.mask(BitBoard.O));
+        return (xCount == oCount || xCount == oCount + 1) && !board.isGameOver();
+    }
+
+    /**
+     * Plain minimax with no pruning or caching, using the same scores as {@link PerfectSolver}.
+     */
+    private static int bruteForce(BitBoard board) {
+        int player = board.sideToMove();
+        int empties = BitBoard.CELLS - board.moveCount();
+        if (board.hasWon(BitBoard.opponent(player))) return -(empties + 1);
+        if (empties == 0) return 0;
+
+        int best = Integer.MIN_VALUE;
+        for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+            if (!board.isEmpty(cell)) continue;
+            board.play(cell, player);
+            best = Math.max(best, -bruteForce(board));
+            board.undo(cell);
+        }
+        return best;
+    }
+}
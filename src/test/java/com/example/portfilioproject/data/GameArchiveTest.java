@@ -0,0 +1,105 @@
+package com.example.portfilioproject.data;
+
+import com.example.portfilioproject.data.GameRecord.Opponent;
+import com.example.portfilioproject.data.GameRecord.Result;
+import com.example.portfilioproject.engine.GameVariant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameArchiveTest {
+
+    private static final long TIME = 1_700_000_000_000L;
+
+    private static final List<GameRecord> GAMES = List.of(
+            new GameRecord(TIME, GameVariant.CLASSIC, Opponent.PERFECT, Result.X_WINS, new int[]{4, 0, 2, 6, 3}),
+            new GameRecord(TIME + 60_000, GameVariant.GOMOKU, Opponent.MONTE_CARLO, Result.ABANDONED, new int[]{112, 113, 224, 0}),
+            new GameRecord(TIME + 120_000, GameVariant.FOUR_IN_A_ROW, Opponent.PLAYER, Result.DRAW, new int[]{99, 0, 55}),
+            new GameRecord(TIME + 180_000, GameVariant.CLASSIC, Opponent.RANDOM, Result.O_WINS, new int[]{8, 4, 7, 6, 0, 2}));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void gamesReadBackAsWritten() throws IOException {
+        Path path = dir.resolve("games.bin");
+        write(path);
+        assertGames(GAMES, path);
+    }
+
+    @Test
+    void gameCutOffAtAnyPointIsDroppedBeforeAppending() throws IOException {
+        Path full = dir.resolve("games.bin");
+        List<Long> ends = write(full);
+        GameRecord extra = new GameRecord(TIME + 240_000, GameVariant.CLASSIC, Opponent.CREATOR, Result.DRAW,
+                new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+
+        Path path = dir.resolve("cut.bin");
+        for (long cut = GameArchive.HEADER_BYTES; cut < Files.size(full); cut++) {
+            Files.copy(full, path, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(cut);
+            }
+
+            // Opening drops whatever follows the last complete game
+            int complete = 0;
+            while (complete < ends.size() && ends.get(complete) <= cut) complete++;
+            long end = complete == 0 ? GameArchive.HEADER_BYTES : ends.get(complete - 1);
+            GameArchive.open(path).close();
+            assertEquals(end, Files.size(path), "Cut at " + cut);
+            assertGames(GAMES.subList(0, complete), path);
+
+            // A game added afterwards follows straight on from the last complete one
+            try (GameArchive archive = GameArchive.open(path)) {
+                archive.append(extra);
+            }
+            List<GameRecord> expected = new ArrayList<>(GAMES.subList(0, complete));
+            expected.add(extra);
+            assertGames(expected, path);
+        }
+    }
+
+    /**
+     * Writes {@link #GAMES} to a new archive.
+     *
+     * @return the file size after each game
+     */
+    private static List<Long> write(Path path) throws IOException {
+        List<Long> ends = new ArrayList<>();
+        try (GameArchive archive = GameArchive.open(path)) {
+            for (GameRecord game : GAMES) {
+                archive.append(game);
+                ends.add(Files.size(path));
+            }
+        }
+        return ends;
+    }
+
+    private static void assertGames(List<GameRecord> expected, Path path) throws IOException {
+        try (GameArchive.Reader reader = GameArchive.read(path)) {
+            for (GameRecord game : expected) {
+                assertTrue(reader.next());
+                GameRecord read = reader.toRecord();
+                assertEquals(game.epochMillis(), read.epochMillis());
+                assertEquals(game.variant(), read.variant());
+                assertEquals(game.opponent(), read.opponent());
+                assertEquals(game.result(), read.result());
+                assertArrayEquals(game.moves(), read.moves());
+            }
+            assertFalse(reader.next());
+        }
+    }
+}
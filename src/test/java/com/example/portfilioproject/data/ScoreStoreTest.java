@@ -0,0 +1,189 @@
+package com.example.portfilioproject.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScoreStoreTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Auckland");
+    private static final long START = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final long HOUR = 3_600_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void damagedRecordIsDroppedOnOpen() throws IOException {
+        Path path = dir.resolve("scores.bin");
+        List<long[]> records = write(path, 5);
+
+        // Flip a bit in the last record's X wins, so its checksum no longer matches
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long at = ScoreStore.HEADER_BYTES + 4L * ScoreStore.RECORD_BYTES + 8;
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, at);
+            one.put(0, (byte) (one.get(0) ^ 1)).rewind();
+            channel.write(one, at);
+        }
+
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            assertEquals(4, store.size());
+            assertEquals(sum(records.subList(0, 4)), store.totals());
+        }
+        assertEquals(4, committedCount(path));
+
+        // The next record takes the damaged one's place
+        records.set(4, new long[]{START + 100 * HOUR, 7, 0, 1, 0});
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            store.append(START + 100 * HOUR, 7, 0, 1, 0);
+        }
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            assertEquals(5, store.size());
+            assertEquals(sum(records), store.totals());
+        }
+    }
+
+    @Test
+    void recordsPastACutOffEndAreDroppedOnOpen() throws IOException {
+        Path path = dir.resolve("scores.bin");
+        List<long[]> records = write(path, 5);
+
+        // Cut the file off part way through the last record
+        long cut = ScoreStore.HEADER_BYTES + 4L * ScoreStore.RECORD_BYTES + 10;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(cut);
+        }
+
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            assertEquals(4, store.size());
+            assertEquals(sum(records.subList(0, 4)), store.totals());
+        }
+        assertEquals(cut, Files.size(path));
+        assertEquals(4, committedCount(path));
+
+        // The file grows again when the next record is added
+        records.set(4, new long[]{START + 100 * HOUR, 0, 2, 0, 0});
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            store.append(START + 100 * HOUR, 0, 2, 0, 0);
+        }
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            assertEquals(5, store.size());
+            assertEquals(sum(records), store.totals());
+        }
+    }
+
+    @Test
+    void dayIndexMatchesALinearScan() throws IOException {
+        Path path = dir.resolve("scores.bin");
+        Random random = new Random(15);
+        List<long[]> records = new ArrayList<>();
+
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            long time = START;
+            for (int i = 0; i < 3000; i++) {
+                // Mostly forwards a few hours at a time, now and then backwards as if the clock was changed
+                time += random.nextInt(20) == 0 ? -random.nextInt(200) * HOUR : random.nextInt(30) * HOUR;
+                long[] record = {time, random.nextInt(5), random.nextInt(5), random.nextInt(3),
+                        random.nextInt(50) == 0 ? ScoreStore.FLAG_RESET : 0, day(time).toEpochDay()};
+                records.add(record);
+                store.add(record[0], (int) record[1], (int) record[2], (int) record[3], (int) record[4]);
+
+                // Commit in groups of varying size
+                if (random.nextInt(8) == 0) {
+                    store.commit(false);
+                    checkAgainstScan(store, records, random);
+                }
+            }
+            store.commit(false);
+            checkAgainstScan(store, records, random);
+        }
+
+        // The index built while scanning the file on open gives the same totals
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            assertEquals(records.size(), store.size());
+            checkAgainstScan(store, records, random);
+        }
+    }
+
+    /**
+     * Compares the store's totals over random ranges of days, and since the last reset, with adding
+     * up every record. Each record holds its epoch day after the flags.
+     */
+    private static void checkAgainstScan(ScoreStore store, List<long[]> records, Random random) {
+        assertEquals(sum(records), store.totals());
+
+        LocalDate first = day(START).minusDays(10);
+        for (int i = 0; i < 20; i++) {
+            LocalDate from = first.plusDays(random.nextInt(200));
+            LocalDate to = from.plusDays(random.nextInt(30) - 2);
+            long x = 0;
+            long o = 0;
+            long draws = 0;
+            for (long[] record : records) {
+                if (record[5] < from.toEpochDay() || record[5] > to.toEpochDay()) continue;
+                x += record[1];
+                o += record[2];
+                draws += record[3];
+            }
+            assertEquals(new ScoreTotals(x, o, draws), store.totals(from, to), from + " to " + to);
+        }
+
+        int lastReset = 0;
+        for (int i = 0; i < records.size(); i++) {
+            if ((records.get(i)[4] & ScoreStore.FLAG_RESET) != 0) lastReset = i;
+        }
+        assertEquals(sum(records.subList(lastReset, records.size())), store.totalsSinceReset());
+    }
+
+    /**
+     * Appends records an hour apart to a new store.
+     *
+     * @return each record's time, X wins, O wins, draws and flags
+     */
+    private static List<long[]> write(Path path, int count) throws IOException {
+        List<long[]> records = new ArrayList<>();
+        try (ScoreStore store = ScoreStore.open(path, ZONE)) {
+            for (int i = 0; i < count; i++) {
+                long[] record = {START + i * HOUR, i + 1, 2 * i, i % 2, 0};
+                store.append(record[0], (int) record[1], (int) record[2], (int) record[3], 0);
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static ScoreTotals sum(List<long[]> records) {
+        long x = 0;
+        long o = 0;
+        long draws = 0;
+        for (long[] record : records) {
+            x += record[1];
+            o += record[2];
+            draws += record[3];
+        }
+        return new ScoreTotals(x, o, draws);
+    }
+
+    private static long committedCount(Path path) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(path)).getLong(ScoreStore.COUNT_OFFSET);
+    }
+
+    private static LocalDate day(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZONE).toLocalDate();
+    }
+}
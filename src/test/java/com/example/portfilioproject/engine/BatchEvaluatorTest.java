@@ -0,0 +1,60 @@
+package com.example.portfilioproject.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchEvaluatorTest {
+
+    private static final int INPUTS = 1 << (2 * BitBoard.CELLS);
+
+    @Test
+    void batchMatchesSinglePositionsForEveryInput() {
+        int[] boards = new int[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            boards[i] = i;
+        }
+        int[] statuses = BatchEvaluator.evaluate(boards);
+
+        int positions = 0;
+        for (int i = 0; i < INPUTS; i++) {
+            int board = i;
+            int x = board & BitBoard.FULL_MASK;
+            int o = board >>> BitBoard.CELLS;
+            assertEquals(BatchEvaluator.status(board), statuses[board], () -> "Packed " + board);
+            if ((x & o) != 0) continue;
+
+            // Worked out independently, with 'X' taking precedence when both players have a line
+            positions++;
+            int expected = BitBoard.isWin(x) ? BatchEvaluator.X_WINS
+                    : BitBoard.isWin(o) ? BatchEvaluator.O_WINS
+                    : (x | o) == BitBoard.FULL_MASK ? BatchEvaluator.DRAW
+                    : BatchEvaluator.ONGOING;
+            assertEquals(expected, statuses[board], () -> "Packed " + board);
+            assertEquals(board, BatchEvaluator.pack(x, o));
+            assertEquals(board, BatchEvaluator.pack(new BitBoard(x, o)));
+        }
+        assertEquals(19683, positions);
+    }
+
+    @Test
+    void statusesCanBeWrittenOverThePositionsInBlocks() {
+        int[] boards = new int[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            boards[i] = i;
+        }
+        int[] expected = BatchEvaluator.evaluate(boards);
+
+        // Process a block at a time from a reused buffer, writing the statuses in place
+        int[] block = new int[1000];
+        int[] statuses = new int[INPUTS];
+        for (int start = 0; start < INPUTS; start += block.length) {
+            int count = Math.min(block.length, INPUTS - start);
+            System.arraycopy(boards, start, block, 0, count);
+            BatchEvaluator.evaluate(block, count, block);
+            System.arraycopy(block, 0, statuses, start, count);
+        }
+        assertArrayEquals(expected, statuses);
+    }
+}
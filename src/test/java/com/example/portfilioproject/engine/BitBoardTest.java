@@ -0,0 +1,108 @@
+package com.example.portfilioproject.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BitBoardTest {
+
+    // The winning lines in the board's order: rows, columns, then the two diagonals
+    private static final int[][] LINES = {
+            {0, 1, 2}, {3, 4, 5}, {6, 7, 8},
+            {0, 3, 6}, {1, 4, 7}, {2, 5, 8},
+            {0, 4, 8}, {2, 4, 6}
+    };
+
+    @Test
+    void threatIndexMatchesBruteForceForEveryPosition() {
+        BitBoard board = new BitBoard();
+        int checked = 0;
+
+        // Every way of placing marks, including positions that cannot come up in a game
+        for (int xMask = 0; xMask <= BitBoard.FULL_MASK; xMask++) {
+            for (int oMask = 0; oMask <= BitBoard.FULL_MASK; oMask++) {
+                if ((xMask & oMask) != 0) continue;
+                board.load(xMask, oMask);
+                check(board);
+                checked++;
+            }
+        }
+        assertEquals(19683, checked);
+    }
+
+    @Test
+    void threatIndexMatchesBruteForceThroughEveryGame() {
+        BitBoard board = new BitBoard();
+        assertEquals(549946, visit(board, BitBoard.X));
+
+        // Undoing every move leaves the index as it was on the empty board
+        assertEquals(0, board.mask(BitBoard.X) | board.mask(BitBoard.O));
+        check(board);
+
+        // A reset board matches a freshly loaded one
+        board.load(0b000_010_101, 0b101_000_000);
+        board.reset();
+        check(board);
+    }
+
+    /**
+     * Plays every game from the position, checking the index after each move and after each undo.
+     *
+     * @return the number of positions visited
+     */
+    private static int visit(BitBoard board, int player) {
+        check(board);
+        if (board.isGameOver()) return 1;
+        int visited = 1;
+        for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+            if (!board.isEmpty(cell)) continue;
+            board.play(cell, player);
+            visited += visit(board, BitBoard.opponent(player));
+            board.undo(cell);
+            check(board);
+        }
+        return visited;
+    }
+
+    /**
+     * Compares the board's line counts, winning cells and fork cells with working them out from its masks.
+     */
+    private static void check(BitBoard board) {
+        for (int player = BitBoard.X; player <= BitBoard.O; player++) {
+            int own = board.mask(player);
+            int other = board.mask(BitBoard.opponent(player));
+            int winning = 0;
+            int forks = 0;
+            for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+                if (!board.isEmpty(cell)) continue;
+
+                // Count the lines through the cell that the player holds two or one of, unopposed
+                int twos = 0;
+                int ones = 0;
+                for (int[] line : LINES) {
+                    if (line[0] != cell && line[1] != cell && line[2] != cell) continue;
+                    if (count(line, other) > 0) continue;
+                    int marks = count(line, own);
+                    if (marks == 2) twos++;
+                    if (marks == 1) ones++;
+                }
+                if (twos > 0) winning |= 1 << cell;
+                if (ones > 1) forks |= 1 << cell;
+            }
+            String message = "Player " + player + "\n" + board;
+            assertEquals(winning, board.winningCells(player), message);
+            assertEquals(forks, board.forkCells(player), message);
+            for (int line = 0; line < LINES.length; line++) {
+                assertEquals(count(LINES[line], own), board.lineCount(line, player), message);
+            }
+        }
+    }
+
+    private static int count(int[] line, int mask) {
+        int marks = 0;
+        for (int cell : line) {
+            if ((mask & (1 << cell)) != 0) marks++;
+        }
+        return marks;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.portfilioproject.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SymmetryTest {
+
+    @Test
+    void bitBoardAndGridBoardAgreeOnEveryPosition() {
+        Set<Integer> positions = new HashSet<>();
+        visit(new BitBoard(), new GridBoard(3, 3), BitBoard.X, positions);
+        assertEquals(5478, positions.size());
+    }
+
+    /**
+     * Plays every game from the position on both boards at once, checking each position on the way.
+     */
+    private static void visit(BitBoard bits, GridBoard grid, int player, Set<Integer> positions) {
+        int xMask = bits.mask(BitBoard.X);
+        int oMask = bits.mask(BitBoard.O);
+        if (!positions.add(Symmetry.key(xMask, oMask))) return;
+        assertEquals(bits.hash(), grid.hash());
+        assertEquals(Symmetry.canonicalHash(bits), Symmetry.canonicalHash(grid));
+        assertEquals(Symmetry.canonicalTransform(xMask, oMask), Symmetry.canonicalTransform(grid));
+
+        // The canonical transform gives the canonical copy
+        int t = Symmetry.canonicalTransform(xMask, oMask);
+        assertEquals(Symmetry.canonicalHash(bits), Zobrist.hash(Symmetry.transform(xMask, t), Symmetry.transform(oMask, t)));
+
+        if (bits.hasWon(BitBoard.X) || bits.hasWon(BitBoard.O) || bits.isFull()) return;
+        for (int cell = 0; cell < BitBoard.CELLS; cell++) {
+            if (!bits.isEmpty(cell)) continue;
+            bits.play(cell, player);
+            grid.play(cell, player);
+            visit(bits, grid, BitBoard.opponent(player), positions);
+            bits.undo(cell);
+            grid.undo();
+        }
+    }
+
+    @Test
+    void allVersionsOfAPositionShareTheCanonicalHash() {
+        for (int size : new int[]{3, 4, 15, 19, 25}) {
+            int[] cells = {0, size + 1, 2 * size - 1, size * size - 2, size * size - size};
+            long expected = Symmetry.canonicalHash(play(size, cells, 0));
+            for (int t = 1; t < Symmetry.COUNT; t++) {
+                GridBoard version = play(size, cells, t);
+                assertEquals(expected, Symmetry.canonicalHash(version), size + "x" + size + ", transform " + t);
+
+                // The canonical copy is the same whichever version it is reached from
+                int canonical = Symmetry.canonicalTransform(version);
+                GridBoard copy = new GridBoard(size, 3);
+                for (int i = 0; i < version.moveCount(); i++) {
+                    int cell = version.moveAt(i);
+                    copy.play(Symmetry.toCanonical(cell, size, canonical), version.get(cell));
+                }
+                assertEquals(expected, copy.hash());
+            }
+        }
+    }
+
+    @Test
+    void fromCanonicalUndoesToCanonical() {
+        for (int size : new int[]{3, 4, 19}) {
+            for (int t = 0; t < Symmetry.COUNT; t++) {
+                for (int cell = 0; cell < size * size; cell++) {
+                    assertEquals(cell, Symmetry.fromCanonical(Symmetry.toCanonical(cell, size, t), size, t));
+                    if (size == 3) {
+                        assertEquals(Symmetry.toCanonical(cell, t), Symmetry.toCanonical(cell, size, t));
+                        assertEquals(Symmetry.fromCanonical(cell, t), Symmetry.fromCanonical(cell, size, t));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays alternating moves on a fresh board, with every cell moved by the transform.
+     */
+    private static GridBoard play(int size, int[] cells, int transform) {
+        GridBoard board = new GridBoard(size, 3);
+        int player = BitBoard.X;
+        for (int cell : cells) {
+            board.play(Symmetry.transformCell(cell, size, transform), player);
+            player = BitBoard.opponent(player);
+        }
+        return board;
+    }
+}